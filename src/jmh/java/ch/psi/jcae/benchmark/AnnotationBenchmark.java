@@ -0,0 +1,69 @@
+package ch.psi.jcae.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.Channel;
+import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.annotation.CaChannel;
+import ch.psi.jcae.impl.DefaultChannelService;
+
+/**
+ * Creation and destruction of the channels of an annotated object
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnnotationBenchmark {
+	
+	public static class Device {
+		@CaChannel(name = BenchmarkServer.DOUBLE, type = Double.class, monitor = false)
+		public Channel<Double> value;
+		
+		@CaChannel(name = BenchmarkServer.DOUBLE, type = Double.class, monitor = true)
+		public Channel<Double> readback;
+		
+		@CaChannel(name = { BenchmarkServer.STRING, BenchmarkServer.STRING }, type = String.class, monitor = false)
+		public List<Channel<String>> names;
+	}
+	
+	private BenchmarkServer server;
+	private DefaultChannelService service;
+	
+	@Setup
+	public void setup() throws InterruptedException {
+		server = new BenchmarkServer();
+		server.start();
+		service = new DefaultChannelService();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		service.destroy();
+		server.stop();
+	}
+
+	@Benchmark
+	public Device createDestroy() throws ChannelException, InterruptedException, TimeoutException {
+		Device device = new Device();
+		service.createAnnotatedChannels(device);
+		service.destroyAnnotatedChannels(device);
+		return device;
+	}
+}
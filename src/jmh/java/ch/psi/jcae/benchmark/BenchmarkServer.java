@@ -0,0 +1,58 @@
+package ch.psi.jcae.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.cas.ProcessVariable;
+import ch.psi.jcae.cas.CaServer;
+import ch.psi.jcae.cas.ProcessVariableGeneric;
+import ch.psi.jcae.impl.JcaeProperties;
+
+/**
+ * In-process Channel Access server (on loopback) serving the channels used by the benchmarks
+ */
+public class BenchmarkServer {
+	
+	public static final String PREFIX = "MTEST-PC-JCAE-BENCH:";
+	
+	public static final String DOUBLE = PREFIX+"DOUBLE";
+	public static final String STRING = PREFIX+"STRING";
+	public static final String DOUBLE_WAVEFORM = PREFIX+"DWAVE";
+	
+	/**
+	 * Maximum number of elements of the waveform
+	 */
+	public static final int WAVEFORM_SIZE = 1000000;
+	
+	/**
+	 * Maximum array size in bytes (needs to hold the double waveform)
+	 */
+	private static final String MAX_ARRAY_BYTES = Integer.toString(WAVEFORM_SIZE*8+1024);
+	
+	private CaServer server;
+	
+	public void start() throws InterruptedException{
+		List<ProcessVariable> processVariables = new ArrayList<ProcessVariable>();
+		processVariables.add(new ProcessVariableGeneric<Double>(DOUBLE, null, Double.class));
+		processVariables.add(new ProcessVariableGeneric<String>(STRING, null, String.class));
+		processVariables.add(new ProcessVariableGeneric<double[]>(DOUBLE_WAVEFORM, null, double[].class, WAVEFORM_SIZE));
+		
+		// Client and server need to accept the large waveform
+		JcaeProperties.getInstance().setMaxArrayBytes(MAX_ARRAY_BYTES);
+		server = new CaServer(processVariables);
+		server.getConfiguration().setAttribute("max_array_bytes", MAX_ARRAY_BYTES);
+		server.startAsDaemon();
+		
+		// Give the server some time to come up
+		Thread.sleep(500);
+	}
+	
+	public void stop(){
+		try {
+			server.stop();
+		} catch (IllegalStateException | CAException e) {
+			throw new RuntimeException("Unable to stop ChannelAccess server", e);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package ch.psi.jcae.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.impl.handler.ByteArrayStringHandler;
+import ch.psi.jcae.impl.handler.Conversions;
+
+/**
+ * Bulk conversions of {@link Conversions} compared to the element by element loops they replace
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+	@Param({ "1000", "100000", "1000000" })
+	public int size;
+
+	private int[] ints;
+	private boolean[] booleans;
+	private int[] intBuffer;
+	private boolean[] booleanBuffer;
+	private byte[] string;
+
+	@Setup
+	public void setup() {
+		ints = new int[size];
+		booleans = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			ints[i] = i % 3;
+			booleans[i] = i % 3 == 0;
+		}
+		intBuffer = new int[size];
+		booleanBuffer = new boolean[size];
+		
+		// Char waveform holding a string terminated in the middle of the buffer
+		string = new byte[size];
+		Arrays.fill(string, 0, size / 2, (byte) 'a');
+	}
+
+	@Benchmark
+	public boolean[] toBooleansLoop() {
+		for (int i = 0; i < ints.length; i++) {
+			booleanBuffer[i] = (ints[i] > 0);
+		}
+		return booleanBuffer;
+	}
+
+	@Benchmark
+	public boolean[] toBooleans() {
+		Conversions.toBooleans(ints, booleanBuffer, ints.length);
+		return booleanBuffer;
+	}
+
+	@Benchmark
+	public int[] toIntsLoop() {
+		for (int i = 0; i < booleans.length; i++) {
+			intBuffer[i] = booleans[i] ? 1 : 0;
+		}
+		return intBuffer;
+	}
+
+	@Benchmark
+	public int[] toInts() {
+		Conversions.toInts(booleans, 0, intBuffer, booleans.length);
+		return intBuffer;
+	}
+
+	@Benchmark
+	public String decodeStringLoop() {
+		int x = 0;
+		for (x = 0; x < string.length; x++) {
+			if (string[x] == 0) {
+				break;
+			}
+		}
+		return new String(string).substring(0, x);
+	}
+
+	@Benchmark
+	public String decodeString() {
+		return new String(string, 0, Conversions.indexOfNul(string), ByteArrayStringHandler.CHARSET);
+	}
+}
@@ -0,0 +1,77 @@
+package ch.psi.jcae.benchmark;
+
+import gov.aps.jca.CAStatus;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.GetEvent;
+import gov.aps.jca.event.PutEvent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.impl.GetFuture;
+import ch.psi.jcae.impl.SetFuture;
+import ch.psi.jcae.impl.handler.DoubleHandler;
+
+/**
+ * Overhead of completing the get/set futures (without network)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FutureBenchmark {
+	
+	private final Object source = new Object();
+	private final DBR dbr = new DBR_Double(new double[] { 1.0 });
+	private final GetEvent getEvent = new GetEvent(source, dbr, CAStatus.NORMAL);
+	private final PutEvent putEvent = new PutEvent(source, DBRType.DOUBLE, 1, CAStatus.NORMAL);
+	private final Double value = 1.0;
+	private final DoubleHandler handler = new DoubleHandler();
+
+	@Benchmark
+	public Double getFuture() throws InterruptedException, ExecutionException {
+		GetFuture<Double> future = new GetFuture<Double>(Double.class, handler, null);
+		future.getCompleted(getEvent);
+		return future.get();
+	}
+	
+	@Benchmark
+	public void getFutureCallback(final Blackhole blackhole) {
+		GetFuture<Double> future = new GetFuture<Double>(Double.class, handler, null);
+		future.addCallback(new ChannelFuture.Callback<Double>() {
+			@Override
+			public void completed(Double value) {
+				blackhole.consume(value);
+			}
+
+			@Override
+			public void failed(Throwable cause) {
+				blackhole.consume(cause);
+			}
+		});
+		future.getCompleted(getEvent);
+	}
+
+	@Benchmark
+	public Double setFuture() throws InterruptedException, ExecutionException {
+		SetFuture<Double> future = new SetFuture<Double>(value);
+		future.putCompleted(putEvent);
+		return future.get();
+	}
+}
@@ -0,0 +1,99 @@
+package ch.psi.jcae.benchmark;
+
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.dbr.DBR;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.impl.handler.Handler;
+import ch.psi.jcae.impl.handler.Handlers;
+
+/**
+ * Decoding of DBRs by the handlers registered in {@link Handlers}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBenchmark {
+
+	/**
+	 * Handlers of array types
+	 */
+	@State(Scope.Thread)
+	public static class ArrayState {
+		@Param({ "byte[]", "double[]", "float[]", "int[]", "short[]", "String[]", "boolean[]", 
+			"ByteArrayString", "ByteArrayTimestamp", "DoubleArrayTimestamp", "FloatArrayTimestamp", "IntegerArrayTimestamp", 
+			"ShortArrayTimestamp", "StringArrayTimestamp", "BooleanArrayTimestamp" })
+		public String type;
+		
+		@Param({ "1", "1000", "100000", "1000000" })
+		public int size;
+		
+		Handler<?> handler;
+		DBR dbr;
+		
+		@Setup
+		public void setup() {
+			handler = handler(type);
+			dbr = handler.getDBRType().newInstance(size);
+		}
+	}
+	
+	/**
+	 * Handlers of scalar types
+	 */
+	@State(Scope.Thread)
+	public static class ScalarState {
+		@Param({ "Byte", "Double", "Float", "Integer", "Short", "String", "Boolean", 
+			"ByteTimestamp", "DoubleTimestamp", "FloatTimestamp", "IntegerTimestamp", "ShortTimestamp", 
+			"StringTimestamp", "BooleanTimestamp" })
+		public String type;
+		
+		Handler<?> handler;
+		DBR dbr;
+		
+		@Setup
+		public void setup() {
+			handler = handler(type);
+			dbr = handler.getDBRType().newInstance(1);
+		}
+	}
+	
+	/**
+	 * Get the handler for the (simple) name of the type
+	 * @param type	Simple name of the type
+	 * @return	Handler
+	 */
+	static Handler<?> handler(String type) {
+		for (Class<?> c : Handlers.HANDLERS.keySet()) {
+			if (c.getSimpleName().equals(type)) {
+				return Handlers.HANDLERS.get(c);
+			}
+		}
+		throw new IllegalArgumentException("No handler for type " + type);
+	}
+
+	@Benchmark
+	public Object decodeArray(ArrayState state) throws CAStatusException {
+		return state.handler.getValue(state.dbr);
+	}
+
+	@Benchmark
+	public Object decodeScalar(ScalarState state) throws CAStatusException {
+		return state.handler.getValue(state.dbr);
+	}
+}
@@ -0,0 +1,85 @@
+package ch.psi.jcae.benchmark;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.Channel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.impl.JCAChannelFactory;
+import ch.psi.jcae.impl.handler.Handler;
+
+/**
+ * Encoding of values by the array handlers. Encoding is done by putting the value 
+ * (without acknowledgement) to a waveform served by the in-process server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandlerEncodeBenchmark {
+
+	@Param({ "byte[]", "double[]", "float[]", "int[]", "short[]" })
+	public String type;
+	
+	@Param({ "1", "1000", "100000", "1000000" })
+	public int size;
+	
+	private BenchmarkServer server;
+	private JCAChannelFactory factory;
+	private Channel channel;
+	private Handler<?> handler;
+	private Object value;
+	
+	@Setup
+	public void setup() throws InterruptedException, CAException {
+		server = new BenchmarkServer();
+		server.start();
+		factory = new JCAChannelFactory();
+		channel = factory.createChannel(BenchmarkServer.DOUBLE_WAVEFORM);
+		
+		handler = HandlerBenchmark.handler(type);
+		switch (type) {
+		case "byte[]":
+			value = new byte[size];
+			break;
+		case "double[]":
+			value = new double[size];
+			break;
+		case "float[]":
+			value = new float[size];
+			break;
+		case "int[]":
+			value = new int[size];
+			break;
+		default:
+			value = new short[size];
+		}
+	}
+	
+	@TearDown
+	public void tearDown() throws CAException {
+		factory.destroyContext();
+		server.stop();
+	}
+
+	@Benchmark
+	public void encode() throws CAException {
+		handler.setValue(channel, value);
+		channel.getContext().flushIO();
+	}
+}
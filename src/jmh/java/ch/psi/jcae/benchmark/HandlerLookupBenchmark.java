@@ -0,0 +1,62 @@
+package ch.psi.jcae.benchmark;
+
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.dbr.DBR;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.impl.handler.Handler;
+import ch.psi.jcae.impl.handler.Handlers;
+
+/**
+ * Per event overhead of looking up the handler in the registry compared to a handler
+ * bound at construction (as done by channels and futures)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandlerLookupBenchmark {
+
+	@Param({ "Double", "DoubleTimestamp", "double[]" })
+	public String type;
+
+	private Class<?> clazz;
+	private Handler<?> handler;
+	private DBR dbr;
+
+	@Setup
+	public void setup() {
+		handler = HandlerBenchmark.handler(type);
+		for (Class<?> c : Handlers.HANDLERS.keySet()) {
+			if (Handlers.HANDLERS.get(c) == handler) {
+				clazz = c;
+			}
+		}
+		dbr = handler.getDBRType().newInstance(1);
+	}
+
+	@Benchmark
+	public Object lookup() throws CAStatusException {
+		return Handlers.HANDLERS.get(clazz).getValue(dbr);
+	}
+
+	@Benchmark
+	public Object bound() throws CAStatusException {
+		return handler.getValue(dbr);
+	}
+}
@@ -0,0 +1,47 @@
+package ch.psi.jcae.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.impl.MacroResolver;
+
+/**
+ * Resolution of macros in channel names
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MacroResolverBenchmark {
+	
+	private final Map<String, String> macros = new HashMap<String, String>();
+	
+	public MacroResolverBenchmark() {
+		macros.put("PREFIX", "MTEST-PC-JCAE:");
+		macros.put("DEVICE", "MOTOR1");
+		macros.put("FIELD", "RBV");
+	}
+
+	@Benchmark
+	public String noMacro() {
+		return MacroResolver.format("MTEST-PC-JCAE:MOTOR1.RBV", macros);
+	}
+	
+	@Benchmark
+	public String macros() {
+		return MacroResolver.format("${PREFIX}${DEVICE}.${FIELD}", macros);
+	}
+}
@@ -0,0 +1,75 @@
+package ch.psi.jcae.benchmark;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.psi.jcae.Channel;
+import ch.psi.jcae.ChannelDescriptor;
+import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.impl.DefaultChannelService;
+
+/**
+ * End to end get/put/monitor round trips against the in-process server on loopback
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundTripBenchmark {
+	
+	private BenchmarkServer server;
+	private DefaultChannelService service;
+	private Channel<Double> channel;
+	private Channel<Double> monitored;
+	private double counter = 0;
+	
+	@Setup
+	public void setup() throws InterruptedException, ChannelException, TimeoutException {
+		server = new BenchmarkServer();
+		server.start();
+		service = new DefaultChannelService();
+		channel = service.createChannel(new ChannelDescriptor<Double>(Double.class, BenchmarkServer.DOUBLE));
+		monitored = service.createChannel(new ChannelDescriptor<Double>(Double.class, BenchmarkServer.DOUBLE, true));
+	}
+	
+	@TearDown
+	public void tearDown() {
+		service.destroy();
+		server.stop();
+	}
+
+	@Benchmark
+	public Double get() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		return channel.getValue(true);
+	}
+	
+	@Benchmark
+	public void put() throws InterruptedException, ExecutionException, ChannelException {
+		channel.setValue(++counter);
+	}
+	
+	/**
+	 * Put a value and wait until the monitor delivers it
+	 */
+	@Benchmark
+	public Double monitor() throws InterruptedException, ExecutionException, ChannelException {
+		Double v = ++counter;
+		channel.setValueNoWait(v);
+		return monitored.waitForValue(v);
+	}
+}
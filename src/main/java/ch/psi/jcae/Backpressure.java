@@ -0,0 +1,26 @@
+package ch.psi.jcae;
+
+/**
+ * Strategy applied by a channel publisher if values are received faster than
+ * a subscriber consumes (requests) them.
+ */
+public enum Backpressure {
+	/**
+	 * Keep only the latest value
+	 */
+	LATEST,
+	/**
+	 * Keep the values in a bounded buffer, if the buffer is full the oldest value is dropped
+	 */
+	DROP_OLDEST,
+	/**
+	 * Keep the values in a bounded buffer, if the buffer is full new values are dropped
+	 */
+	DROP_NEWEST,
+	/**
+	 * Keep the values in a bounded buffer, if the buffer is full the monitor callback 
+	 * blocks until there is space again. Note that this stalls the delivery of monitor 
+	 * events of all other channels served by the same callback thread.
+	 */
+	BLOCK
+}
@@ -27,15 +27,16 @@ public interface Channel<T> {
 	public void putNoWait(T value);
 	
 	
+	// Asynchronous operations return a ChannelFuture supporting callbacks, composition and cancellation
 	public T getValue() throws InterruptedException, TimeoutException, ChannelException, ExecutionException;
 	public T getValue(boolean force) throws InterruptedException, TimeoutException, ChannelException, ExecutionException;
-	public Future<T> getValueAsync() throws IllegalStateException, ChannelException;
-	public Future<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException;
+	public ChannelFuture<T> getValueAsync() throws IllegalStateException, ChannelException;
+	public ChannelFuture<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException;
 	
 
 	public void setValueNoWait(T value)throws InterruptedException, ExecutionException, ChannelException;
 	public void setValue(T value) throws InterruptedException, ExecutionException, ChannelException;
-	public Future<T> setValueAsync(T value) throws ChannelException;
+	public ChannelFuture<T> setValueAsync(T value) throws ChannelException;
 
 	public T waitForValue(T rvalue) throws InterruptedException, ExecutionException, ChannelException;
 	public T waitForValue(T rvalue, long timeout) throws InterruptedException, ExecutionException, ChannelException, TimeoutException;
@@ -43,10 +44,10 @@ public interface Channel<T> {
 	public T waitForValue(T rvalue, Comparator<T> comparator) throws InterruptedException, ExecutionException, ChannelException;
 	public T waitForValue(T rvalue, Comparator<T> comparator, long waitRetryPeriod) throws InterruptedException, ExecutionException, ChannelException;
 	
-	public Future<T> waitForValueAsync(T rvalue) throws ChannelException;
-	public Future<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException;
-	public Future<T> waitForValueAsync(T rvalue, Comparator<T> comparator) throws ChannelException;
-	public Future<T> waitForValueAsync(T rvalue, Comparator<T> comparator, long waitRetryPeriod) throws ChannelException;
+	public ChannelFuture<T> waitForValueAsync(T rvalue) throws ChannelException;
+	public ChannelFuture<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException;
+	public ChannelFuture<T> waitForValueAsync(T rvalue, Comparator<T> comparator) throws ChannelException;
+	public ChannelFuture<T> waitForValueAsync(T rvalue, Comparator<T> comparator, long waitRetryPeriod) throws ChannelException;
 	
 	public String getName();
 	public boolean isConnected();
@@ -71,4 +72,18 @@ public interface Channel<T> {
 	public void addPropertyChangeListener( PropertyChangeListener l );
 	public void addPropertyChangeListener( String name, PropertyChangeListener l );
 	public void removePropertyChangeListener( PropertyChangeListener l );
+	public void removePropertyChangeListener( String name, PropertyChangeListener l );
+	
+	/**
+	 * Get a publisher of the value updates of the channel. Subscribing sets the channel
+	 * to be monitored. The values are passed to the subscribers outside of the monitor callback,
+	 * the backpressure strategy defines what happens if a subscriber does not keep up.
+	 * Values are buffered by reference, i.e. if the channel recycles its buffers a buffered
+	 * value is overwritten by the second next update.
+	 * 
+	 * @param backpressure	Strategy applied if a subscriber does not keep up
+	 * @param capacity		Number of values buffered per subscriber (not used for <code>LATEST</code>)
+	 * @return	Publisher
+	 */
+	public Flow.Publisher<T> getPublisher(Backpressure backpressure, int capacity);
 }
@@ -0,0 +1,72 @@
+package ch.psi.jcae;
+
+import java.util.concurrent.Future;
+
+/**
+ * Future of an asynchronous channel operation that notifies registered callbacks on
+ * completion and can be composed with other operations. Callbacks are called by the
+ * thread completing the future, usually the Channel Access callback thread. Callbacks 
+ * therefore must not block (e.g. by calling get() of another channel operation).
+ * 
+ * Cancelling a future completes it right away. If supported by the operation, resources
+ * held by the operation (e.g. the monitor of a wait) are released.
+ */
+public interface ChannelFuture<T> extends Future<T> {
+
+	/**
+	 * Callback notified on completion of a future
+	 */
+	public interface Callback<T> {
+		/**
+		 * Operation completed successfully
+		 * @param value	Result of the operation
+		 */
+		public void completed(T value);
+		
+		/**
+		 * Operation failed or was cancelled (the cause is then a CancellationException)
+		 * @param cause	Cause of the failure
+		 */
+		public void failed(Throwable cause);
+	}
+	
+	/**
+	 * Function to transform the result of a future
+	 */
+	public interface Function<T, R> {
+		public R apply(T value) throws Exception;
+	}
+	
+	/**
+	 * Function to start a subsequent operation with the result of a future
+	 */
+	public interface AsyncFunction<T, R> {
+		public ChannelFuture<R> apply(T value) throws Exception;
+	}
+	
+	/**
+	 * Register a callback. If the future is already done the callback is called right away 
+	 * (by the calling thread).
+	 * @param callback	Callback
+	 * @return	This future
+	 */
+	public ChannelFuture<T> addCallback(Callback<? super T> callback);
+	
+	/**
+	 * Get a future completing with the transformed result of this future. If this future
+	 * fails or the function throws an exception the returned future fails.
+	 * Cancelling the returned future cancels this future.
+	 * @param function	Function to apply to the result
+	 * @return	Future of the transformed result
+	 */
+	public <R> ChannelFuture<R> transform(Function<? super T, ? extends R> function);
+	
+	/**
+	 * Get a future completing with the result of the operation started by the function
+	 * with the result of this future. Cancelling the returned future cancels the operation 
+	 * that is currently pending.
+	 * @param function	Function starting the subsequent operation
+	 * @return	Future of the subsequent operation
+	 */
+	public <R> ChannelFuture<R> transformAsync(AsyncFunction<? super T, R> function);
+}
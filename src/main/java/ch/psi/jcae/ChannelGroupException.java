@@ -0,0 +1,55 @@
+package ch.psi.jcae;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exception indicating that an operation on a group of channels failed for
+ * some of the channels. The cause of the failure is reported per channel.
+ */
+public class ChannelGroupException extends ChannelException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<Channel<?>, Throwable> failures;
+	private final List<?> values;
+
+	public ChannelGroupException(Map<Channel<?>, Throwable> failures, List<?> values) {
+		super(createMessage(failures));
+		this.failures = Collections.unmodifiableMap(failures);
+		this.values = Collections.unmodifiableList(values);
+	}
+
+	/**
+	 * @return Failed channels and the cause of their failure
+	 */
+	public Map<Channel<?>, Throwable> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return Values of all channels of the group (in the order of the
+	 *         group). The value of a failed channel is null.
+	 */
+	public List<?> getValues() {
+		return values;
+	}
+
+	private static String createMessage(Map<Channel<?>, Throwable> failures) {
+		StringBuilder b = new StringBuilder("Operation failed for channel(s): ");
+		Iterator<Map.Entry<Channel<?>, Throwable>> iterator = failures.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Channel<?>, Throwable> e = iterator.next();
+			b.append(e.getKey().getName());
+			b.append(" [");
+			b.append(e.getValue().getMessage());
+			b.append("]");
+			if (iterator.hasNext()) {
+				b.append(", ");
+			}
+		}
+		return b.toString();
+	}
+}
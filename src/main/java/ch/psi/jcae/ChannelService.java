@@ -2,6 +2,7 @@ package ch.psi.jcae;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -12,6 +13,31 @@ public interface ChannelService {
 	public <T> Channel<T> createChannel(Descriptor<T> descriptor) throws ChannelException, InterruptedException, TimeoutException;
 	public List<Channel<?>> createChannels(List<Descriptor<?>> descriptors) throws ChannelException, InterruptedException, TimeoutException;
 	
+	/**
+	 * Get the values of a group of channels. The requests for all channels are issued at once
+	 * (i.e. with a single flush) and the function returns once all values are in.
+	 * If the get failed for some of the channels an ExecutionException with a 
+	 * {@link ChannelGroupException} as cause, holding the failures per channel, is thrown.
+	 * @param channels	Channels to get the value from
+	 * @return	Values of the channels (in the order of the passed list)
+	 */
+	public List<Object> getValues(List<? extends Channel<?>> channels) throws InterruptedException, ExecutionException, ChannelException;
+	public List<Object> getValues(List<? extends Channel<?>> channels, boolean force) throws InterruptedException, ExecutionException, ChannelException;
+	public ChannelFuture<List<Object>> getValuesAsync(List<? extends Channel<?>> channels) throws ChannelException;
+	public ChannelFuture<List<Object>> getValuesAsync(List<? extends Channel<?>> channels, boolean force) throws ChannelException;
+	
+	/**
+	 * Set the values of a group of channels. The put requests for all channels are issued at once
+	 * (i.e. with a single flush) and the function returns once all puts have completed.
+	 * If the put failed for some of the channels an ExecutionException with a 
+	 * {@link ChannelGroupException} as cause, holding the failures per channel, is thrown.
+	 * @param values	Channels and the value to set (in iteration order of the map)
+	 * @return	Values set
+	 */
+	public List<Object> setValues(Map<? extends Channel<?>, ?> values) throws InterruptedException, ExecutionException, ChannelException;
+	public ChannelFuture<List<Object>> setValuesAsync(Map<? extends Channel<?>, ?> values) throws ChannelException;
+	public void setValuesNoWait(Map<? extends Channel<?>, ?> values) throws ChannelException;
+	
 	// Annotation related functions
 	public void createAnnotatedChannels(Object object) throws ChannelException, InterruptedException, TimeoutException;
 	public void createAnnotatedChannels(Object object, Map<String,String> macros) throws ChannelException, InterruptedException, TimeoutException;
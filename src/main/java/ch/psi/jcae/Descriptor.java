@@ -5,6 +5,11 @@ public abstract class Descriptor<T> {
 	protected Class<T> type;
 	protected Boolean monitored = false;
 	protected Integer size = null; // Size of the value. If size==null original size is taken
+	protected Boolean recycle = false; // Decode monitor updates into recycled buffers
+	protected Long conflation = null; // Minimum period (ms) between value notifications (null - every update is notified)
+	protected Integer offset = null; // Index of the first element read of a waveform (null - 0)
+	protected Integer stride = null; // Distance between the elements read of a waveform (null - 1)
+	protected Boolean dynamicSize = false; // Let the server decide on the number of elements of a waveform
 
 	/**
 	 * @return the type
@@ -44,4 +49,82 @@ public abstract class Descriptor<T> {
 	public void setSize(Integer size) {
 		this.size = size;
 	}
+
+	/**
+	 * @return the recycle
+	 */
+	public Boolean getRecycle() {
+		return recycle;
+	}
+
+	/**
+	 * Decode monitor updates into the value of the update before the previous one
+	 * (see <code>DefaultChannel.setRecycle</code>). Only saves the allocation of value
+	 * wrappers and converted arrays - the payload of an update is allocated by JCA.
+	 * @param recycle the recycle to set
+	 */
+	public void setRecycle(Boolean recycle) {
+		this.recycle = recycle;
+	}
+
+	/**
+	 * @return the conflation period in milliseconds (null if not conflated)
+	 */
+	public Long getConflation() {
+		return conflation;
+	}
+
+	/**
+	 * Conflate the value notifications of the channel. Updates overwrite the value and the
+	 * listeners are notified with the latest value at most once per period and not before
+	 * they finished processing the previous notification. Recycling is not applied to
+	 * conflated channels.
+	 * @param conflation the conflation period in milliseconds (0 - notify as soon as the listeners
+	 * finished processing the previous notification, null - notify every update)
+	 */
+	public void setConflation(Long conflation) {
+		this.conflation = conflation;
+	}
+	/**
+	 * @return the offset of the region of the waveform that is read (null - 0)
+	 */
+	public Integer getOffset() {
+		return offset;
+	}
+	/**
+	 * Read only a region of the waveform starting at the given element. The size of the
+	 * descriptor is the number of elements of the region.
+	 * @param offset the index of the first element to read
+	 */
+	public void setOffset(Integer offset) {
+		this.offset = offset;
+	}
+	/**
+	 * @return the distance between the elements of the waveform that are read (null - 1)
+	 */
+	public Integer getStride() {
+		return stride;
+	}
+	/**
+	 * Read only every n-th element of the waveform (decimation). The elements are picked
+	 * while decoding, only the resulting values are allocated.
+	 * @param stride the distance between the elements to read
+	 */
+	public void setStride(Integer stride) {
+		this.stride = stride;
+	}
+	/**
+	 * @return the dynamic size mode
+	 */
+	public Boolean getDynamicSize() {
+		return dynamicSize;
+	}
+	/**
+	 * Let the server decide on the number of elements of a waveform (requests with element
+	 * count 0). Values hold the actual number of elements instead of the maximum size.
+	 * @param dynamicSize the dynamic size mode to set
+	 */
+	public void setDynamicSize(Boolean dynamicSize) {
+		this.dynamicSize = dynamicSize;
+	}
 }
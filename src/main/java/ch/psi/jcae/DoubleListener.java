@@ -0,0 +1,18 @@
+package ch.psi.jcae;
+
+/**
+ * Listener receiving the value updates of a scalar numeric channel as primitive double.
+ * The listener is called directly from the monitor callback without creating a value
+ * object or event per update.
+ */
+public interface DoubleListener {
+	
+	/**
+	 * Value of the channel changed
+	 * @param value				New value
+	 * @param timestamp			Timestamp in milliseconds since 1970 (0 if the channel type has no timestamp, e.g. Double instead of DoubleTimestamp)
+	 * @param nanosecondOffset	Nanosecond offset of the timestamp
+	 * @param severity			Alarm severity (0 if the channel type has no severity)
+	 */
+	public void valueChanged(double value, long timestamp, long nanosecondOffset, int severity);
+}
@@ -0,0 +1,45 @@
+package ch.psi.jcae;
+
+/**
+ * Interfaces of a publish/subscribe stream with demand signaling, following the 
+ * Reactive Streams specification (same as java.util.concurrent.Flow, which is not
+ * available for the Java version this library is targeting).
+ */
+public final class Flow {
+	
+	private Flow(){
+	}
+
+	/**
+	 * Producer of values received by subscribers
+	 */
+	public static interface Publisher<T> {
+		public void subscribe(Subscriber<? super T> subscriber);
+	}
+	
+	/**
+	 * Receiver of values. Values are only passed if requested via the subscription.
+	 */
+	public static interface Subscriber<T> {
+		public void onSubscribe(Subscription subscription);
+		public void onNext(T item);
+		public void onError(Throwable throwable);
+		public void onComplete();
+	}
+	
+	/**
+	 * Link between a publisher and a subscriber
+	 */
+	public static interface Subscription {
+		/**
+		 * Request the given number of additional values
+		 * @param n	Number of values (&gt; 0)
+		 */
+		public void request(long n);
+		
+		/**
+		 * Stop receiving values
+		 */
+		public void cancel();
+	}
+}
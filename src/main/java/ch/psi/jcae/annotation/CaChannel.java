@@ -35,4 +35,11 @@ public @interface CaChannel {
 	 * @return If its an array data type the size of the array
 	 */
 	int size() default 0;
+	
+	/**
+	 * Conflate the value notifications of a monitored channel (see <code>Descriptor.setConflation()</code>)
+	 * @return Minimum period in milliseconds between notifications, 0 notify as soon as the 
+	 * listeners finished the previous notification, -1 (default) notify every update
+	 */
+	long conflation() default -1;
 }
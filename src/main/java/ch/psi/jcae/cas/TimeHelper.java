@@ -29,6 +29,17 @@ public class TimeHelper {
 		return (secPastEpoch + TS_EPOCH_SEC_PAST_1970) * 1000L + nsec / 1000000L;
 	}
 
+	/**
+	 * Extracts the nanoseconds since 1970
+	 * 
+	 * @param timestamp
+	 *            The {@link TimeStamp}
+	 * @return long The nanoseconds
+	 */
+	public static long getEpochNanos(TimeStamp timestamp) {
+		return (timestamp.secPastEpoch() + TS_EPOCH_SEC_PAST_1970) * 1000000000L + timestamp.nsec();
+	}
+
 	/**
 	 * Extracts the nanosecond offset
 	 * 
@@ -0,0 +1,241 @@
+package ch.psi.jcae.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import ch.psi.jcae.ChannelFuture;
+
+/**
+ * Base implementation of a ChannelFuture. The future is completed via <code>complete()</code>
+ * or <code>fail()</code>, usually from within a Channel Access callback.
+ */
+public class CallbackFuture<T> implements ChannelFuture<T> {
+	
+	private static final Logger logger = Logger.getLogger(CallbackFuture.class.getName());
+
+	private final CountDownLatch latch = new CountDownLatch(1);
+	private List<Callback<? super T>> callbacks = new ArrayList<Callback<? super T>>();
+	
+	private volatile T value;
+	private volatile Throwable cause;
+	private volatile boolean cancelled = false;
+	
+	/**
+	 * Complete the future with the given value
+	 * @param value	Result
+	 * @return	false if the future was already done
+	 */
+	public boolean complete(T value) {
+		return finish(value, null, false);
+	}
+	
+	/**
+	 * Fail the future
+	 * @param cause	Cause of the failure
+	 * @return	false if the future was already done
+	 */
+	public boolean fail(Throwable cause) {
+		return finish(null, cause, false);
+	}
+	
+	private boolean finish(T value, Throwable cause, boolean cancel) {
+		List<Callback<? super T>> l;
+		synchronized (this) {
+			if (latch.getCount() == 0) {
+				return false;
+			}
+			this.value = value;
+			this.cause = cause;
+			this.cancelled = cancel;
+			l = callbacks;
+			callbacks = null;
+			latch.countDown();
+		}
+		done();
+		for (Callback<? super T> c : l) {
+			if (cause != null) {
+				notifyFailed(c, cause);
+			}
+			else {
+				notifyCompleted(c, value);
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Called once the future is done (completed, failed or cancelled). Operations 
+	 * holding resources override this function to release them.
+	 */
+	protected void done() {
+	}
+	
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return finish(null, new CancellationException(), true);
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override
+	public boolean isDone() {
+		return latch.getCount() == 0;
+	}
+
+	@Override
+	public T get() throws InterruptedException, ExecutionException {
+		if (latch.getCount() != 0) {
+			DefaultChannel.assertNotInMonitorCallback();
+			latch.await();
+		}
+		return result();
+	}
+
+	@Override
+	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		if (latch.getCount() != 0) {
+			DefaultChannel.assertNotInMonitorCallback();
+			if (!latch.await(timeout, unit)) {
+				throw new TimeoutException("Timeout [" + timeout + " " + unit + "] occured while waiting for operation to complete");
+			}
+		}
+		return result();
+	}
+	
+	private T result() throws ExecutionException {
+		if (cancelled) {
+			throw new CancellationException();
+		}
+		if (cause != null) {
+			throw new ExecutionException(cause);
+		}
+		return value;
+	}
+
+	@Override
+	public ChannelFuture<T> addCallback(Callback<? super T> callback) {
+		synchronized (this) {
+			if (callbacks != null) {
+				callbacks.add(callback);
+				return this;
+			}
+		}
+		if (cause != null) {
+			notifyFailed(callback, cause);
+		}
+		else {
+			notifyCompleted(callback, value);
+		}
+		return this;
+	}
+
+	@Override
+	public <R> ChannelFuture<R> transform(final Function<? super T, ? extends R> function) {
+		final CallbackFuture<T> source = this;
+		final CallbackFuture<R> future = new CallbackFuture<R>() {
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				source.cancel(mayInterruptIfRunning);
+				return super.cancel(mayInterruptIfRunning);
+			}
+		};
+		addCallback(new Callback<T>() {
+			@Override
+			public void completed(T value) {
+				try {
+					future.complete(function.apply(value));
+				} catch (Exception e) {
+					future.fail(e);
+				}
+			}
+
+			@Override
+			public void failed(Throwable cause) {
+				future.fail(cause);
+			}
+		});
+		return future;
+	}
+
+	@Override
+	public <R> ChannelFuture<R> transformAsync(final AsyncFunction<? super T, R> function) {
+		final CallbackFuture<T> source = this;
+		final ChannelFuture<?>[] next = new ChannelFuture<?>[1];
+		final CallbackFuture<R> future = new CallbackFuture<R>() {
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				ChannelFuture<?> n;
+				synchronized (next) {
+					n = next[0];
+				}
+				if (n != null) {
+					n.cancel(mayInterruptIfRunning);
+				}
+				else {
+					source.cancel(mayInterruptIfRunning);
+				}
+				return super.cancel(mayInterruptIfRunning);
+			}
+		};
+		addCallback(new Callback<T>() {
+			@Override
+			public void completed(T value) {
+				try {
+					ChannelFuture<R> n = function.apply(value);
+					synchronized (next) {
+						next[0] = n;
+					}
+					if (future.isCancelled()) {
+						n.cancel(false);
+						return;
+					}
+					n.addCallback(new Callback<R>() {
+						@Override
+						public void completed(R value) {
+							future.complete(value);
+						}
+
+						@Override
+						public void failed(Throwable cause) {
+							future.fail(cause);
+						}
+					});
+				} catch (Exception e) {
+					future.fail(e);
+				}
+			}
+
+			@Override
+			public void failed(Throwable cause) {
+				future.fail(cause);
+			}
+		});
+		return future;
+	}
+	
+	private void notifyCompleted(Callback<? super T> callback, T value) {
+		try {
+			callback.completed(value);
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Exception occured while calling callback", e);
+		}
+	}
+	
+	private void notifyFailed(Callback<? super T> callback, Throwable cause) {
+		try {
+			callback.failed(cause);
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Exception occured while calling callback", e);
+		}
+	}
+}
@@ -0,0 +1,301 @@
+package ch.psi.jcae.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a channel, i.e. of the CA channel shared by all channels of a service with the
+ * same name. All records are also applied to the parent metrics (the aggregate of the service).
+ * 
+ * Metrics are only recorded if enabled for the service (see <code>JcaeProperties.isMetrics()</code>) -
+ * if disabled no metrics object exists and recording is skipped altogether. 
+ * 
+ * Times are recorded in nanoseconds:
+ * <ul>
+ * <li>get/put latency - from issuing the request until the value is decoded/the put is confirmed</li>
+ * <li>decode time - time spent in the handler decoding a DBR (gets and monitor events)</li>
+ * <li>dispatch time - time spent in the listeners (and waits) for a monitor event</li>
+ * <li>connection time - time from issuing the connection request until the channel got connected</li>
+ * </ul>
+ */
+public class ChannelMetrics implements ChannelMetricsMBean {
+
+	private static final double MICROSECONDS = 1000.0;
+
+	private final String name;
+	private final ChannelMetrics parent;
+
+	private final Histogram getLatency = new Histogram();
+	private final Histogram putLatency = new Histogram();
+	private final Histogram decodeTime = new Histogram();
+	private final Histogram dispatchTime = new Histogram();
+	private final Histogram connectionTime = new Histogram();
+
+	private final AtomicLong getFailures = new AtomicLong();
+	private final AtomicLong putFailures = new AtomicLong();
+	private final AtomicLong monitorEvents = new AtomicLong();
+	private final AtomicLong reconnects = new AtomicLong();
+	private final AtomicLong disconnects = new AtomicLong();
+
+	private volatile long since = System.nanoTime();
+
+	/**
+	 * @param name		Name of the channel
+	 * @param parent	Metrics all records are also applied to (null if none)
+	 */
+	public ChannelMetrics(String name, ChannelMetrics parent) {
+		this.name = name;
+		this.parent = parent;
+	}
+
+	void get(long nanos) {
+		getLatency.record(nanos);
+		if (parent != null) {
+			parent.get(nanos);
+		}
+	}
+
+	void getFailed() {
+		getFailures.incrementAndGet();
+		if (parent != null) {
+			parent.getFailed();
+		}
+	}
+
+	void put(long nanos) {
+		putLatency.record(nanos);
+		if (parent != null) {
+			parent.put(nanos);
+		}
+	}
+
+	void putFailed() {
+		putFailures.incrementAndGet();
+		if (parent != null) {
+			parent.putFailed();
+		}
+	}
+
+	void decode(Class<?> type, long nanos) {
+		decodeTime.record(nanos);
+		if (parent != null) {
+			parent.decode(type, nanos);
+		}
+	}
+
+	/**
+	 * Record a monitor event
+	 * @param type		Type the event was decoded to
+	 * @param decode	Decode time
+	 * @param dispatch	Time spent to notify the listeners
+	 */
+	void monitorEvent(Class<?> type, long decode, long dispatch) {
+		monitorEvents.incrementAndGet();
+		decodeTime.record(decode);
+		dispatchTime.record(dispatch);
+		if (parent != null) {
+			parent.monitorEvent(type, decode, dispatch);
+		}
+	}
+
+	void connected(long nanos) {
+		connectionTime.record(nanos);
+		if (parent != null) {
+			parent.connected(nanos);
+		}
+	}
+
+	void reconnected() {
+		reconnects.incrementAndGet();
+		if (parent != null) {
+			parent.reconnected();
+		}
+	}
+
+	void disconnected() {
+		disconnects.incrementAndGet();
+		if (parent != null) {
+			parent.disconnected();
+		}
+	}
+
+	/**
+	 * @return	Round trip latency of get requests (nanoseconds)
+	 */
+	public Histogram getGetLatency() {
+		return getLatency;
+	}
+
+	/**
+	 * @return	Round trip latency of put requests (nanoseconds)
+	 */
+	public Histogram getPutLatency() {
+		return putLatency;
+	}
+
+	/**
+	 * @return	Decode time of get responses and monitor events (nanoseconds)
+	 */
+	public Histogram getDecodeTime() {
+		return decodeTime;
+	}
+
+	/**
+	 * @return	Time spent in the listeners of monitor events (nanoseconds)
+	 */
+	public Histogram getDispatchTime() {
+		return dispatchTime;
+	}
+
+	/**
+	 * @return	Connection time (nanoseconds)
+	 */
+	public Histogram getConnectionTime() {
+		return connectionTime;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getGetCount() {
+		return getLatency.getCount();
+	}
+
+	@Override
+	public long getGetFailures() {
+		return getFailures.get();
+	}
+
+	@Override
+	public double getGetLatencyMean() {
+		return getLatency.getMean() / MICROSECONDS;
+	}
+
+	@Override
+	public double getGetLatencyP99() {
+		return getLatency.getPercentile(99) / MICROSECONDS;
+	}
+
+	@Override
+	public double getGetLatencyMax() {
+		return getLatency.getMax() / MICROSECONDS;
+	}
+
+	@Override
+	public long getPutCount() {
+		return putLatency.getCount();
+	}
+
+	@Override
+	public long getPutFailures() {
+		return putFailures.get();
+	}
+
+	@Override
+	public double getPutLatencyMean() {
+		return putLatency.getMean() / MICROSECONDS;
+	}
+
+	@Override
+	public double getPutLatencyP99() {
+		return putLatency.getPercentile(99) / MICROSECONDS;
+	}
+
+	@Override
+	public double getPutLatencyMax() {
+		return putLatency.getMax() / MICROSECONDS;
+	}
+
+	@Override
+	public long getMonitorEvents() {
+		return monitorEvents.get();
+	}
+
+	@Override
+	public double getMonitorRate() {
+		long elapsed = System.nanoTime() - since;
+		if (elapsed <= 0) {
+			return 0;
+		}
+		return monitorEvents.get() * 1.0e9 / elapsed;
+	}
+
+	@Override
+	public long getDecodeCount() {
+		return decodeTime.getCount();
+	}
+
+	@Override
+	public double getDecodeTimeMean() {
+		return decodeTime.getMean() / MICROSECONDS;
+	}
+
+	@Override
+	public double getDecodeTimeP99() {
+		return decodeTime.getPercentile(99) / MICROSECONDS;
+	}
+
+	@Override
+	public double getDispatchTimeMean() {
+		return dispatchTime.getMean() / MICROSECONDS;
+	}
+
+	@Override
+	public double getDispatchTimeP99() {
+		return dispatchTime.getPercentile(99) / MICROSECONDS;
+	}
+
+	@Override
+	public double getDispatchTimeMax() {
+		return dispatchTime.getMax() / MICROSECONDS;
+	}
+
+	@Override
+	public long getConnectCount() {
+		return connectionTime.getCount();
+	}
+
+	@Override
+	public double getConnectionTimeMean() {
+		return connectionTime.getMean() / MICROSECONDS;
+	}
+
+	@Override
+	public double getConnectionTimeMax() {
+		return connectionTime.getMax() / MICROSECONDS;
+	}
+
+	@Override
+	public long getReconnects() {
+		return reconnects.get();
+	}
+
+	@Override
+	public long getDisconnects() {
+		return disconnects.get();
+	}
+
+	@Override
+	public void reset() {
+		getLatency.reset();
+		putLatency.reset();
+		decodeTime.reset();
+		dispatchTime.reset();
+		connectionTime.reset();
+		getFailures.set(0);
+		putFailures.set(0);
+		monitorEvents.set(0);
+		reconnects.set(0);
+		disconnects.set(0);
+		since = System.nanoTime();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: get[n=%d mean=%.1fus p99=%.1fus] put[n=%d mean=%.1fus p99=%.1fus] monitor[n=%d rate=%.1f/s decode=%.1fus dispatch=%.1fus] reconnects=%d", 
+				name, getGetCount(), getGetLatencyMean(), getGetLatencyP99(), getPutCount(), getPutLatencyMean(), getPutLatencyP99(), 
+				getMonitorEvents(), getMonitorRate(), getDecodeTimeMean(), getDispatchTimeMean(), getReconnects());
+	}
+}
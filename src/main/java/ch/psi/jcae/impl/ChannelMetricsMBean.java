@@ -0,0 +1,47 @@
+package ch.psi.jcae.impl;
+
+/**
+ * JMX view of the metrics of a channel (see {@link ChannelMetrics}). 
+ * Times are in microseconds.
+ */
+public interface ChannelMetricsMBean {
+
+	public String getName();
+
+	public long getGetCount();
+	public long getGetFailures();
+	public double getGetLatencyMean();
+	public double getGetLatencyP99();
+	public double getGetLatencyMax();
+
+	public long getPutCount();
+	public long getPutFailures();
+	public double getPutLatencyMean();
+	public double getPutLatencyP99();
+	public double getPutLatencyMax();
+
+	public long getMonitorEvents();
+	/**
+	 * @return	Monitor events per second since the creation or the last reset of the metrics
+	 */
+	public double getMonitorRate();
+
+	public long getDecodeCount();
+	public double getDecodeTimeMean();
+	public double getDecodeTimeP99();
+
+	public double getDispatchTimeMean();
+	public double getDispatchTimeP99();
+	public double getDispatchTimeMax();
+
+	public long getConnectCount();
+	public double getConnectionTimeMean();
+	public double getConnectionTimeMax();
+	public long getReconnects();
+	public long getDisconnects();
+
+	/**
+	 * Reset all metrics
+	 */
+	public void reset();
+}
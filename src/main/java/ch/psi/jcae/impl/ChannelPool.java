@@ -0,0 +1,289 @@
+package ch.psi.jcae.impl;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.event.ConnectionEvent;
+import gov.aps.jca.event.ConnectionListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reference counted cache of CA channels keyed by channel name. All DefaultChannel objects 
+ * of a service that refer to the same name share one CA channel (and connection). The CA 
+ * channel is destroyed as soon as the last DefaultChannel referring to it is destroyed.
+ * 
+ * If metrics are enabled the pool also keeps the metrics of the CA channels (connection
+ * time, reconnects).
+ * 
+ * If the pool is created with several channel factories (contexts) the channels are sharded 
+ * onto the contexts by the hash of their name, i.e. the channels use several TCP circuits 
+ * and I/O threads in parallel.
+ */
+class ChannelPool {
+	
+	private static final Logger logger = Logger.getLogger(ChannelPool.class.getName());
+
+	private final List<JCAChannelFactory> channelFactories;
+	private final ServiceMetrics metrics;
+	private final Map<String, Entry> entries = new HashMap<String, Entry>();
+	
+	private static class Entry {
+		private final Channel channel;
+		private final ChannelMetrics metrics;
+		private int references;
+		
+		Entry(Channel channel, ChannelMetrics metrics, int references){
+			this.channel = channel;
+			this.metrics = metrics;
+			this.references = references;
+		}
+	}
+	
+	/**
+	 * @param channelFactories	Factories (contexts) to create the channels on
+	 * @param metrics			Metrics of the service (null if metrics are disabled)
+	 */
+	ChannelPool(List<JCAChannelFactory> channelFactories, ServiceMetrics metrics){
+		if(channelFactories.isEmpty()){
+			throw new IllegalArgumentException("At least one channel factory is required");
+		}
+		this.channelFactories = new ArrayList<JCAChannelFactory>(channelFactories);
+		this.metrics = metrics;
+	}
+	
+	/**
+	 * Get the factory (context) the channel with the specified name is created on
+	 * @param name	Name of the channel
+	 * @return	Factory
+	 */
+	JCAChannelFactory getFactory(String name){
+		return channelFactories.get((name.hashCode() & 0x7fffffff) % channelFactories.size());
+	}
+	
+	/**
+	 * Get the channel for the specified name. The channel is created if it is not cached yet.
+	 * Each acquired channel need to be released via <code>release()</code>.
+	 * @param name	Name of the channel
+	 * @return	Channel
+	 * @throws CAException			Unable to create channel
+	 * @throws InterruptedException	Interrupted while creating channel
+	 */
+	Channel acquire(String name) throws CAException, InterruptedException {
+		List<String> names = new ArrayList<String>();
+		names.add(name);
+		return acquire(names).get(0);
+	}
+	
+	/**
+	 * Get the channels for the specified names. Channels that are not cached yet are 
+	 * created at once. Each acquired channel need to be released via <code>release()</code>.
+	 * @param names	Names of the channels
+	 * @return	Channels in the order of the passed names
+	 * @throws CAException			Unable to create channel
+	 * @throws InterruptedException	Interrupted while creating channel
+	 */
+	List<Channel> acquire(List<String> names) throws CAException, InterruptedException {
+		// Occurrences of the names that are not cached
+		Map<String, Integer> missing = new LinkedHashMap<String, Integer>();
+		synchronized (this) {
+			for(String name: names){
+				Entry entry = entries.get(name);
+				if(entry!=null){
+					entry.references++;
+				}
+				else{
+					Integer c = missing.get(name);
+					missing.put(name, c==null ? 1 : c+1);
+				}
+			}
+		}
+		
+		if(!missing.isEmpty()){
+			// Shard the missing channels onto the contexts
+			Map<JCAChannelFactory, List<String>> shards = new LinkedHashMap<JCAChannelFactory, List<String>>();
+			for(String name: missing.keySet()){
+				JCAChannelFactory factory = getFactory(name);
+				List<String> l = shards.get(factory);
+				if(l==null){
+					l = new ArrayList<String>();
+					shards.put(factory, l);
+				}
+				l.add(name);
+			}
+			
+			List<ConnectionResult> results = new ArrayList<ConnectionResult>();
+			try{
+				for(Map.Entry<JCAChannelFactory, List<String>> shard: shards.entrySet()){
+					results.add(shard.getKey().connectAll(shard.getValue()));
+				}
+			}
+			catch(CAException e){
+				destroy(results);
+				release(names, missing);
+				throw e;
+			}
+			catch(InterruptedException e){
+				destroy(results);
+				release(names, missing);
+				throw e;
+			}
+			
+			synchronized (this) {
+				int r=0;
+				for(List<String> shard: shards.values()){
+					ConnectionResult created = results.get(r++);
+					List<Channel> channels = created.getChannels();
+					for(int i=0;i<shard.size();i++){
+						String name = shard.get(i);
+						Channel channel = channels.get(i);
+						Entry entry = entries.get(name);
+						if(entry!=null){
+							// Channel got created concurrently - use the cached one
+							entry.references += missing.get(name);
+							destroy(channel);
+						}
+						else{
+							entries.put(name, new Entry(channel, createMetrics(channel, created.getConnectionTime(i)), missing.get(name)));
+						}
+					}
+				}
+			}
+		}
+		
+		List<Channel> channels = new ArrayList<Channel>(names.size());
+		synchronized (this) {
+			for(String name: names){
+				channels.add(entries.get(name).channel);
+			}
+		}
+		return channels;
+	}
+	
+	/**
+	 * Get the metrics of a channel acquired before
+	 * @param channel	Channel
+	 * @return	Metrics of the channel - null if metrics are disabled or the channel is not managed by the pool
+	 */
+	synchronized ChannelMetrics getMetrics(Channel channel){
+		Entry entry = entries.get(channel.getName());
+		if(entry!=null && entry.channel==channel){
+			return entry.metrics;
+		}
+		return null;
+	}
+	
+	/**
+	 * Create the metrics for a newly connected channel
+	 * @param channel			Channel
+	 * @param connectionTime	Connection time in nanoseconds
+	 * @return	Metrics (null if metrics are disabled)
+	 */
+	private ChannelMetrics createMetrics(Channel channel, long connectionTime){
+		if(metrics==null){
+			return null;
+		}
+		final ChannelMetrics m = metrics.acquire(channel.getName());
+		m.connected(connectionTime);
+		try{
+			channel.addConnectionListener(new ConnectionListener() {
+				@Override
+				public void connectionChanged(ConnectionEvent event) {
+					if(event.isConnected()){
+						m.reconnected();
+					}
+					else{
+						m.disconnected();
+					}
+				}
+			});
+		}
+		catch(CAException e){
+			logger.log(Level.WARNING, "Unable to monitor connection of channel "+channel.getName(), e);
+		}
+		return m;
+	}
+	
+	/**
+	 * Release the references taken for the cached names (used if the creation of the
+	 * missing channels failed)
+	 */
+	private void release(List<String> names, Map<String, Integer> missing){
+		for(String name: names){
+			if(!missing.containsKey(name)){
+				Channel channel;
+				synchronized (this) {
+					channel = entries.get(name).channel;
+				}
+				try{
+					release(channel);
+				}
+				catch(CAException e){
+					logger.log(Level.WARNING, "Unable to release channel "+name, e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Release a channel acquired before. If this was the last reference the channel is destroyed.
+	 * Channels not managed by the pool (any more) are destroyed right away. 
+	 * @param channel	Channel to release
+	 * @throws CAException	Unable to destroy channel
+	 */
+	void release(Channel channel) throws CAException {
+		synchronized (this) {
+			Entry entry = entries.get(channel.getName());
+			if(entry!=null && entry.channel==channel){
+				entry.references--;
+				if(entry.references>0){
+					return;
+				}
+				entries.remove(channel.getName());
+				if(entry.metrics!=null){
+					metrics.release(entry.metrics);
+				}
+			}
+		}
+		
+		gov.aps.jca.Context c = channel.getContext();
+		channel.destroy();
+		c.flushIO();
+	}
+	
+	/**
+	 * Forget all cached channels (used if the context was destroyed)
+	 */
+	synchronized void clear(){
+		for(Entry entry: entries.values()){
+			if(entry.metrics!=null){
+				metrics.release(entry.metrics);
+			}
+		}
+		entries.clear();
+	}
+	
+	private void destroy(List<ConnectionResult> results){
+		for(ConnectionResult result: results){
+			for(Channel channel: result.getChannels()){
+				if(channel!=null){
+					destroy(channel);
+				}
+			}
+		}
+	}
+	
+	private void destroy(Channel channel){
+		try{
+			channel.destroy();
+		}
+		catch(Exception e){
+			logger.log(Level.WARNING, "Unable to destroy channel "+channel.getName(), e);
+		}
+	}
+}
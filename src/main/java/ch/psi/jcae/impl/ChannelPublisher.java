@@ -0,0 +1,245 @@
+package ch.psi.jcae.impl;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import ch.psi.jcae.Backpressure;
+import ch.psi.jcae.Channel;
+import ch.psi.jcae.Flow;
+
+/**
+ * Publisher of the value updates of a channel. Each subscriber gets its own buffer which is
+ * filled by the monitor callback. The values are passed to the subscriber by a thread of
+ * the delivery executor, i.e. a slow subscriber does not delay the monitor callback (unless
+ * the <code>BLOCK</code> strategy is used). The default executor has a bounded number of
+ * threads, i.e. subscribers blocking in <code>onNext</code> delay the delivery to other subscribers.
+ * 
+ * Buffered values are references to the values of the channel. If the channel recycles its
+ * buffers (see <code>setRecycle</code>) a buffered value is overwritten by the second next
+ * update, i.e. subscribers of such channels might see values overwritten by later updates.
+ */
+public class ChannelPublisher<T> implements Flow.Publisher<T> {
+	
+	private static final Logger logger = Logger.getLogger(ChannelPublisher.class.getName());
+	
+	private static ExecutorService defaultExecutor;
+
+	private final Channel<T> channel;
+	private final Backpressure backpressure;
+	private final int capacity;
+	private final Executor executor;
+	
+	/**
+	 * Constructor
+	 * @param channel		Channel to publish the values of
+	 * @param backpressure	Strategy applied if a subscriber does not keep up
+	 * @param capacity		Size of the buffer of a subscriber (not used for <code>LATEST</code>)
+	 */
+	public ChannelPublisher(Channel<T> channel, Backpressure backpressure, int capacity) {
+		this(channel, backpressure, capacity, getDefaultExecutor());
+	}
+	
+	/**
+	 * Constructor
+	 * @param channel		Channel to publish the values of
+	 * @param backpressure	Strategy applied if a subscriber does not keep up
+	 * @param capacity		Size of the buffer of a subscriber (not used for <code>LATEST</code>)
+	 * @param executor		Executor used to pass the values to the subscribers
+	 */
+	public ChannelPublisher(Channel<T> channel, Backpressure backpressure, int capacity, Executor executor) {
+		if (backpressure != Backpressure.LATEST && capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be > 0");
+		}
+		this.channel = channel;
+		this.backpressure = backpressure;
+		this.capacity = backpressure == Backpressure.LATEST ? 1 : capacity;
+		this.executor = executor;
+	}
+	
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		ValueSubscription s = new ValueSubscription(subscriber);
+		subscriber.onSubscribe(s);
+		try {
+			channel.addPropertyChangeListener(Channel.PROPERTY_VALUE, s);
+		} catch (RuntimeException e) {
+			s.cancel();
+			subscriber.onError(e);
+		}
+	}
+	
+	/**
+	 * Get the default executor - also used for conflated value notifications. The number of
+	 * (daemon) threads is bounded by the number of processors (at least 2), further tasks are
+	 * queued. Idle threads are terminated.
+	 * @return	Executor
+	 */
+	static synchronized ExecutorService getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+				
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "jcae-publisher-" + count.getAndIncrement());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			executor.allowCoreThreadTimeOut(true);
+			defaultExecutor = executor;
+		}
+		return defaultExecutor;
+	}
+	
+	/**
+	 * Subscription of one subscriber. The values are buffered by the monitor callback
+	 * and drained (according to the demand of the subscriber) by the executor.
+	 */
+	private final class ValueSubscription implements Flow.Subscription, PropertyChangeListener, Runnable {
+		
+		private final Flow.Subscriber<? super T> subscriber;
+		private final ArrayDeque<T> queue = new ArrayDeque<T>();
+		private long demand = 0;
+		private boolean cancelled = false;
+		private boolean scheduled = false;
+		private Throwable error;
+		
+		ValueSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+			T v = (T) evt.getNewValue();
+			if (v == null) {
+				return;
+			}
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				switch (backpressure) {
+				case LATEST:
+					queue.clear();
+					queue.add(v);
+					break;
+				case DROP_OLDEST:
+					if (queue.size() >= capacity) {
+						queue.poll();
+					}
+					queue.add(v);
+					break;
+				case DROP_NEWEST:
+					if (queue.size() < capacity) {
+						queue.add(v);
+					}
+					break;
+				case BLOCK:
+					try {
+						while (queue.size() >= capacity && !cancelled) {
+							wait();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+					if (cancelled) {
+						return;
+					}
+					queue.add(v);
+					break;
+				}
+				schedule();
+			}
+		}
+
+		@Override
+		public void request(long n) {
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				if (n <= 0) {
+					error = new IllegalArgumentException("Number of requested values must be > 0");
+				}
+				else {
+					demand += n;
+					if (demand < 0) {
+						// Overflow - unbounded demand
+						demand = Long.MAX_VALUE;
+					}
+				}
+				schedule();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				cancelled = true;
+				queue.clear();
+				notifyAll();
+			}
+			channel.removePropertyChangeListener(Channel.PROPERTY_VALUE, this);
+		}
+		
+		/**
+		 * Schedule the delivery if there is something to deliver (need to hold the lock)
+		 */
+		private void schedule() {
+			if (!scheduled && (error != null || (demand > 0 && !queue.isEmpty()))) {
+				scheduled = true;
+				executor.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				T v;
+				Throwable e;
+				synchronized (this) {
+					e = error;
+					if (cancelled || (e == null && (queue.isEmpty() || demand == 0))) {
+						scheduled = false;
+						return;
+					}
+					v = e == null ? queue.poll() : null;
+					demand--;
+					notifyAll();
+				}
+				
+				if (e != null) {
+					cancel();
+					subscriber.onError(e);
+					return;
+				}
+				
+				try {
+					subscriber.onNext(v);
+				} catch (RuntimeException ex) {
+					logger.log(Level.WARNING, "Subscriber failed - cancel subscription", ex);
+					cancel();
+					subscriber.onError(ex);
+					return;
+				}
+			}
+		}
+	}
+}
@@ -7,7 +7,10 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 
 import ch.psi.jcae.Channel;
+import ch.psi.jcae.Backpressure;
 import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.Flow;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,6 +28,20 @@ public class CompositeChannel<T> implements Channel<T>{
 		this.readback = readback;
 	}
 	
+	/**
+	 * @return Channel used to set the value
+	 */
+	Channel<T> getChannel() {
+		return channel;
+	}
+
+	/**
+	 * @return Channel used to read the value
+	 */
+	Channel<T> getReadback() {
+		return readback;
+	}
+
 	@Override
 	public T getValue() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
 		return readback.getValue();
@@ -36,12 +53,12 @@ public class CompositeChannel<T> implements Channel<T>{
 	}
 
 	@Override
-	public Future<T> getValueAsync() throws IllegalStateException, ChannelException {
+	public ChannelFuture<T> getValueAsync() throws IllegalStateException, ChannelException {
 		return readback.getValueAsync();
 	}
 
 	@Override
-	public Future<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
+	public ChannelFuture<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
 		return readback.getValueAsync(force);
 	}
 
@@ -51,27 +68,27 @@ public class CompositeChannel<T> implements Channel<T>{
 	}
 
 	@Override
-	public Future<T> setValueAsync(T value) throws ChannelException {
+	public ChannelFuture<T> setValueAsync(T value) throws ChannelException {
 		return channel.setValueAsync(value);
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue) throws ChannelException {
 		return readback.waitForValueAsync(rvalue);
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException {
 		return readback.waitForValueAsync(rvalue, waitRetryPeriod);
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue, Comparator<T> comparator) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue, Comparator<T> comparator) throws ChannelException {
 		return readback.waitForValueAsync(rvalue, comparator);
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue, Comparator<T> comparator, long waitRetryPeriod) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue, Comparator<T> comparator, long waitRetryPeriod) throws ChannelException {
 		return readback.waitForValueAsync(rvalue, comparator, waitRetryPeriod);
 	}
 	
@@ -166,6 +183,11 @@ public class CompositeChannel<T> implements Channel<T>{
 		readback.removePropertyChangeListener(l);
 	}
 
+	@Override
+	public void removePropertyChangeListener(String name, PropertyChangeListener l) {
+		readback.removePropertyChangeListener(name, l);
+	}
+
 	@Override
 	public void setValueNoWait(T value) throws InterruptedException, ExecutionException, ChannelException {
 		channel.setValueAsync(value);
@@ -233,4 +255,9 @@ public class CompositeChannel<T> implements Channel<T>{
 		}
 	}
 
+
+	@Override
+	public Flow.Publisher<T> getPublisher(Backpressure backpressure, int capacity) {
+		return readback.getPublisher(backpressure, capacity);
+	}
 }
@@ -1,12 +1,14 @@
 package ch.psi.jcae.impl;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 import gov.aps.jca.event.ConnectionEvent;
 import gov.aps.jca.event.ConnectionListener;
 
 /**
- * Listener to decrement the passed latch if a connection was established 
+ * Listener to decrement the passed latch (and release a permit of the connection window)
+ * if a connection was established 
  */
 public class ConnectListener implements ConnectionListener {
 
@@ -14,16 +16,47 @@ public class ConnectListener implements ConnectionListener {
 	 * Thread save counter object that is also used for synchronizations
 	 */
 	private final CountDownLatch latch;
+	private final Semaphore window;
+	private boolean connected = false;
+	private long connectTime;
 	
 	public ConnectListener(CountDownLatch latch){
+		this(latch, null);
+	}
+	
+	/**
+	 * @param latch		Latch to decrement on the first connect
+	 * @param window	Window of in-flight connection requests to release a permit of on the first connect (can be null)
+	 */
+	public ConnectListener(CountDownLatch latch, Semaphore window){
 		this.latch = latch;
+		this.window = window;
 	}
 
 	@Override
-	public void connectionChanged(ConnectionEvent event) {
-		if(event.isConnected()){
-			// Decrement latch
+	public synchronized void connectionChanged(ConnectionEvent event) {
+		// Only decrement latch on the first connect (a reconnect must not count twice)
+		if(event.isConnected() && !connected){
+			connected = true;
+			connectTime = System.nanoTime();
 			latch.countDown();
+			if(window!=null){
+				window.release();
+			}
 		}
 	}
+	
+	/**
+	 * @return	true if the listener got notified about the connect
+	 */
+	public synchronized boolean isConnected(){
+		return connected;
+	}
+	
+	/**
+	 * @return	Time (System.nanoTime()) of the first connect (only valid if connected)
+	 */
+	public synchronized long getConnectTime(){
+		return connectTime;
+	}
 }
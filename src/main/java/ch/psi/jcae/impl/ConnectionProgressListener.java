@@ -0,0 +1,15 @@
+package ch.psi.jcae.impl;
+
+/**
+ * Listener notified about the progress while connecting a number of channels
+ * (see <code>JCAChannelFactory.connectChannels()</code>).
+ */
+public interface ConnectionProgressListener {
+
+	/**
+	 * Called after each round of connection requests (see <code>connectionRetries</code>)
+	 * @param connected	Number of channels connected so far
+	 * @param total		Total number of channels to connect
+	 */
+	public void connectionProgress(int connected, int total);
+}
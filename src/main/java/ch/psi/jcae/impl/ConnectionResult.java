@@ -0,0 +1,78 @@
+package ch.psi.jcae.impl;
+
+import gov.aps.jca.Channel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of connecting a number of channels. Holds the connected channels
+ * (in the order of the requested names) as well as the names of the channels
+ * that could not be connected.
+ */
+public class ConnectionResult {
+
+	private final List<String> names;
+	private final Channel[] channels;
+	private final long[] connectionTimes;
+	
+	ConnectionResult(List<String> names, Channel[] channels, long[] connectionTimes){
+		this.names = names;
+		this.channels = channels;
+		this.connectionTimes = connectionTimes;
+	}
+	
+	/**
+	 * @return	Channels in the order of the requested names. The entry of a channel 
+	 * 			that could not be connected is null
+	 */
+	public List<Channel> getChannels() {
+		List<Channel> l = new ArrayList<Channel>(channels.length);
+		Collections.addAll(l, channels);
+		return l;
+	}
+	
+	/**
+	 * Get the time it took to connect a channel (from issuing the connection request of the
+	 * successful attempt until the channel got connected)
+	 * @param index	Index of the channel (in the order of the requested names)
+	 * @return	Connection time in nanoseconds, -1 if the channel could not be connected
+	 */
+	public long getConnectionTime(int index) {
+		return channels[index]!=null ? connectionTimes[index] : -1;
+	}
+	
+	/**
+	 * @return	Names of the channels that could not be connected
+	 */
+	public List<String> getFailed() {
+		List<String> l = new ArrayList<String>();
+		for(int i=0;i<channels.length;i++){
+			if(channels[i]==null){
+				l.add(names.get(i));
+			}
+		}
+		return l;
+	}
+	
+	/**
+	 * @return	Number of connected channels
+	 */
+	public int getConnected() {
+		int c = 0;
+		for(Channel channel: channels){
+			if(channel!=null){
+				c++;
+			}
+		}
+		return c;
+	}
+	
+	/**
+	 * @return	true if all channels got connected
+	 */
+	public boolean isComplete() {
+		return getConnected() == channels.length;
+	}
+}
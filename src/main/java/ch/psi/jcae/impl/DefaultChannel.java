@@ -2,29 +2,55 @@ package ch.psi.jcae.impl;
 
 import gov.aps.jca.CAException;
 import gov.aps.jca.CAStatus;
+import gov.aps.jca.CAStatusException;
 import gov.aps.jca.Channel;
 import gov.aps.jca.Channel.ConnectionState;
 import gov.aps.jca.Context;
 import gov.aps.jca.Monitor;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.LABELS;
+import gov.aps.jca.dbr.STS;
+import gov.aps.jca.dbr.TIME;
+import gov.aps.jca.dbr.TimeStamp;
 import gov.aps.jca.event.ConnectionEvent;
 import gov.aps.jca.event.ConnectionListener;
+import gov.aps.jca.event.GetEvent;
+import gov.aps.jca.event.GetListener;
 import gov.aps.jca.event.MonitorEvent;
-import gov.aps.jca.event.MonitorListener;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import ch.psi.jcae.Backpressure;
 import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.DoubleListener;
+import ch.psi.jcae.Flow;
+import ch.psi.jcae.IntegerListener;
+import ch.psi.jcae.cas.TimeHelper;
+import ch.psi.jcae.impl.handler.BufferedHandler;
+import ch.psi.jcae.impl.handler.EnumValueHandler;
+import ch.psi.jcae.impl.handler.Handler;
 import ch.psi.jcae.impl.handler.Handlers;
-import ch.psi.jcae.impl.type.ArrayValueHolder;
+import ch.psi.jcae.impl.handler.SliceHandler;
 
 /**
  * Wrapper for the JCA Channel class. Introduces an additional layer of
@@ -44,20 +70,112 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	private PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
 
 	private Class<E> type;
+
+	/**
+	 * Handler of the type and its DBR type - looked up once at construction
+	 */
+	private final Handler<E> typeHandler;
+	private final DBRType dbrType;
 	private Monitor monitor;
 	private ConnectionListener listener;
 	private Channel channel;
 	private Integer elementCount;        
+	private Integer size;
+
+	/**
+	 * Region of the waveform that is decoded (null if the whole waveform is decoded)
+	 */
+	private SliceHandler<E> slice;
+	private int sliceOffset = 0;
+	private int sliceStride = 1;
+
+	/**
+	 * Dynamic size mode - requests are issued with element count 0, i.e. the server
+	 * sends the actual number of elements of the waveform
+	 */
+	private volatile boolean dynamicSize = false;
 
 	private final AtomicReference<E> value = new AtomicReference<E>();
 
 	private boolean connected = false;
 	private boolean monitored = false;
+
+	/**
+	 * Buffer recycling mode - monitor updates are decoded into the value of the
+	 * update before the previous one (double buffering)
+	 */
+	private volatile boolean recycle = false;
+	private E spare;
+
+	/**
+	 * Conflation of the value notifications (null if every update is notified)
+	 */
+	private volatile Conflation conflation;
+
+	/**
+	 * Primitive value listeners. Arrays are replaced on registration so that the
+	 * monitor callback iterates without allocating.
+	 */
+	private volatile DoubleListener[] doubleListeners = new DoubleListener[0];
+	private volatile IntegerListener[] integerListeners = new IntegerListener[0];
+
+	/**
+	 * Last DBR received by the value monitor that is not decoded yet. If only primitive
+	 * listeners consume the updates the value is decoded on access only.
+	 */
+	private final AtomicReference<DBR> pending = new AtomicReference<DBR>();
+
+	/**
+	 * Waits registered on the shared subscription of this channel. If the
+	 * channel is monitored the value monitor serves the waits, otherwise a
+	 * wait monitor is kept as long as there are waits registered
+	 */
+	private final List<MonitorWaitFuture<E>> waiters = new CopyOnWriteArrayList<MonitorWaitFuture<E>>();
+	private final Object waitLock = new Object();
+	private Monitor waitMonitor;
+	private volatile E waitMonitorValue;
+
+	/**
+	 * Scheduler renewing the monitors of waits with a retry period. Set by the
+	 * ChannelService, channels created directly use a shared default scheduler
+	 */
+	private volatile ScheduledExecutorService scheduler;
+	private static ScheduledExecutorService defaultScheduler;
+
+	/**
+	 * Pool the CA channel was acquired from (null if the channel is owned by this object)
+	 */
+	private ChannelPool pool;
+	private boolean released = false;
+
+	/**
+	 * Metrics of the CA channel (null if metrics are disabled)
+	 */
+	private ChannelMetrics metrics;
+
+	/**
+	 * Multiplexer the value monitor is shared by (null if the channel attaches its own monitor)
+	 */
+	private MonitorMultiplexer multiplexer;
+	private MonitorMultiplexer.Subscription subscription;
+       
+	/**
+	 * Dispatcher pool monitor callbacks are executed on (null to execute them on the CA event dispatch thread)
+	 */
+	private DispatcherPool dispatcher;
        
-        static volatile Thread threadEventDispatcher;
+        /**
+         * Set while the current thread executes a monitor callback (per thread, as each CA context
+         * has its own event dispatch thread)
+         */
+        static final ThreadLocal<Boolean> inMonitorCallback = new ThreadLocal<Boolean>();
         
+        /**
+         * Blocking operations must not be called from a monitor callback, i.e. neither from the CA
+         * event dispatch thread nor from a worker of a dispatcher pool
+         */
         static void assertNotInMonitorCallback(){
-            if (Thread.currentThread() == threadEventDispatcher){
+            if (inMonitorCallback.get() != null || DispatcherPool.isWorker()){
                     throw new RuntimeException("Unable to access channel from monitor callback thread");
             }     
         }
@@ -85,14 +203,22 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 * @throws ExecutionException
 	 *             -
 	 */
+	@SuppressWarnings("unchecked")
 	public DefaultChannel(Class<E> type, Channel channel, Integer size, boolean monitored) throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
 
 		// Check whether type is supported
-		if (!Handlers.HANDLERS.containsKey(type)) {
+		Handler<E> handler = (Handler<E>) Handlers.HANDLERS.get(type);
+		if (handler == null) {
 			throw new IllegalArgumentException("Type " + type.getName() + " not supported");
 		}
+		// The labels of an enum are cached per channel, i.e. the channel needs its own handler
+		if (handler instanceof EnumValueHandler) {
+			handler = (Handler<E>) new EnumValueHandler();
+		}
 
 		this.type = type;
+		this.typeHandler = handler;
+		this.dbrType = handler.getDBRType();
 		this.channel = channel;
 		this.connected = channel.getConnectionState().isEqualTo(ConnectionState.CONNECTED);
 
@@ -101,6 +227,21 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 
 		attachConnectionListener();
 
+		if (connected && handler instanceof EnumValueHandler) {
+			boolean fetched = false;
+			try {
+				fetchLabels().get(JcaeProperties.getInstance().getRequestTimeout(), TimeUnit.MILLISECONDS);
+				fetched = true;
+			} catch (CAException e) {
+				throw new ChannelException("Unable to get labels of channel: " + channel.getName(), e);
+			} finally {
+				if (!fetched) {
+					// The CA channel might be shared - do not leave the listener behind
+					removeConnectionListener();
+				}
+			}
+		}
+
 		setMonitored(monitored);
 	}
 
@@ -153,7 +294,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 *             -
 	 */
 	@Override
-	public Future<E> getValueAsync() throws IllegalStateException, ChannelException {
+	public ChannelFuture<E> getValueAsync() throws IllegalStateException, ChannelException {
 		return getValueAsync(false);
 	}
 
@@ -169,16 +310,37 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 *             -
 	 */
 	@Override
-	public Future<E> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
+	public ChannelFuture<E> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
+		return getValueAsync(force, true);
+	}
+
+	/**
+	 * Get value in an asynchronous way
+	 * 
+	 * @param force
+	 *            Force to get the value
+	 * @param flush
+	 *            Flush the request to the network. If false the caller is
+	 *            responsible to flush the context of the channel (used to issue
+	 *            requests for several channels with one flush)
+	 * @return Future to retrieve the value
+	 * @throws IllegalStateException
+	 *             -
+	 * @throws ChannelException
+	 *             -
+	 */
+	ChannelFuture<E> getValueAsync(boolean force, boolean flush) throws IllegalStateException, ChannelException {
 		if (!force && monitored) { // If monitored return future holding actual
 									// value
-			return new GetMonitoredFuture<E>(value.get());
+			return new GetMonitoredFuture<E>(currentValue());
 		}
 		else {                  
 			try {                          
-				GetFuture<E> listener = new GetFuture<E>(this.type);
-				channel.get(Handlers.HANDLERS.get(type).getDBRType(), elementCount, listener);
-				channel.getContext().flushIO();                                
+				GetFuture<E> listener = new GetFuture<E>(this.type, handler(), metrics);
+				channel.get(dbrType, requestCount(), listener);
+				if (flush) {
+					channel.getContext().flushIO();
+				}
 				return listener;
 			} catch (CAException e) {
 				throw new ChannelException("Unable to get value from channel: " + channel.getName(), e);
@@ -205,9 +367,26 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 
 	@Override
 	public void setValueNoWait(E value) throws InterruptedException, ExecutionException, ChannelException {
+		setValueNoWait(value, true);
+	}
+
+	/**
+	 * Set value without waiting for any response
+	 * 
+	 * @param value
+	 *            Value to set
+	 * @param flush
+	 *            Flush the request to the network. If false the caller is
+	 *            responsible to flush the context of the channel
+	 * @throws ChannelException
+	 *             Unable to set value
+	 */
+	void setValueNoWait(E value, boolean flush) throws ChannelException {
 		try {
-			Handlers.HANDLERS.get(type).setValue(channel, value);
-			channel.getContext().flushIO();
+			handler().setValue(channel, value);
+			if (flush) {
+				channel.getContext().flushIO();
+			}
 		} catch (CAException e) {
 			throw new ChannelException("Unable to set value to channel", e);
 		}
@@ -223,10 +402,98 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 *             Unable to set value
 	 */
 	@Override
-	public Future<E> setValueAsync(E value) throws ChannelException {
+	public ChannelFuture<E> setValueAsync(E value) throws ChannelException {
+		return setValueAsync(value, true);
+	}
+
+	/**
+	 * Set value asynchronously
+	 * 
+	 * @param value
+	 *            Value to set
+	 * @param flush
+	 *            Flush the request to the network. If false the caller is
+	 *            responsible to flush the context of the channel
+	 * @return Future to determine when set is done ...
+	 * @throws ChannelException
+	 *             Unable to set value
+	 */
+	ChannelFuture<E> setValueAsync(E value, boolean flush) throws ChannelException {
 		try {
-			SetFuture<E> listener = new SetFuture<E>(value);
-			Handlers.HANDLERS.get(type).setValue(channel, value, listener);
+			SetFuture<E> listener = new SetFuture<E>(value, metrics);
+			handler().setValue(channel, value, listener);
+			if (flush) {
+				channel.getContext().flushIO();
+			}
+			return listener;
+		} catch (CAException e) {
+			throw new ChannelException("Unable to set value to channel", e);
+		}
+	}
+
+	/**
+	 * Set a region of an array synchronously. The region is written starting at
+	 * the first element of the channel.
+	 * 
+	 * @param value
+	 *            Array holding the values to set
+	 * @param offset
+	 *            Index of the first element of the array to set
+	 * @param length
+	 *            Number of elements to set
+	 * @throws InterruptedException
+	 *             -
+	 * @throws ExecutionException
+	 *             -
+	 * @throws ChannelException
+	 *             -
+	 */
+	public void setValue(E value, int offset, int length) throws InterruptedException, ExecutionException, ChannelException {
+		setValueAsync(value, offset, length).get();
+	}
+
+	/**
+	 * Set a region of an array without waiting for any response
+	 * 
+	 * @param value
+	 *            Array holding the values to set
+	 * @param offset
+	 *            Index of the first element of the array to set
+	 * @param length
+	 *            Number of elements to set
+	 * @throws ChannelException
+	 *             Unable to set value
+	 */
+	public void setValueNoWait(E value, int offset, int length) throws ChannelException {
+		assertArrayType();
+		try {
+			Handlers.putRegion(channel, value, offset, length, null);
+			channel.getContext().flushIO();
+		} catch (CAException e) {
+			throw new ChannelException("Unable to set value to channel", e);
+		}
+	}
+
+	/**
+	 * Set a region of an array asynchronously. If the region does not cover the whole
+	 * array it is copied into a (thread local) scratch array, i.e. the caller does not
+	 * need to allocate an array of the exact size.
+	 * 
+	 * @param value
+	 *            Array holding the values to set
+	 * @param offset
+	 *            Index of the first element of the array to set
+	 * @param length
+	 *            Number of elements to set
+	 * @return Future to determine when set is done (completes with the passed array)
+	 * @throws ChannelException
+	 *             Unable to set value
+	 */
+	public ChannelFuture<E> setValueAsync(E value, int offset, int length) throws ChannelException {
+		assertArrayType();
+		try {
+			SetFuture<E> listener = new SetFuture<E>(value, metrics);
+			Handlers.putRegion(channel, value, offset, length, listener);
 			channel.getContext().flushIO();
 			return listener;
 		} catch (CAException e) {
@@ -234,6 +501,12 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 		}
 	}
 
+	private void assertArrayType() {
+		if (!type.isArray()) {
+			throw new IllegalArgumentException("Setting a region is only supported for array types");
+		}
+	}
+
 	/**
 	 * Wait until channel has reached the specified value.
 	 * 
@@ -242,7 +515,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 * @throws ChannelException
 	 *             -
 	 */
-	public Future<E> waitForValueAsync(E rvalue) throws ChannelException {
+	public ChannelFuture<E> waitForValueAsync(E rvalue) throws ChannelException {
 
 		// Default comparator checking for equality
 		Comparator<E> comparator = new Comparator<E>() {
@@ -269,7 +542,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 * @throws ChannelException
 	 *             -
 	 */
-	public Future<E> waitForValueAsync(E rvalue, long waitRetryPeriod) throws ChannelException {
+	public ChannelFuture<E> waitForValueAsync(E rvalue, long waitRetryPeriod) throws ChannelException {
 		// Default comparator checking for equality
 		Comparator<E> comparator = new Comparator<E>() {
 			@Override
@@ -296,8 +569,10 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 * @throws ChannelException
 	 *             -
 	 */
-	public Future<E> waitForValueAsync(E rvalue, Comparator<E> comparator) throws ChannelException {
-		return new WaitFuture<E>(channel, elementCount, rvalue, comparator);
+	public ChannelFuture<E> waitForValueAsync(E rvalue, Comparator<E> comparator) throws ChannelException {
+		MonitorWaitFuture<E> future = new MonitorWaitFuture<E>(this, rvalue, comparator);
+		addWaiter(future);
+		return future;
 	}
 
 	/**
@@ -314,8 +589,55 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 * @throws ChannelException
 	 *             -
 	 */
-	public Future<E> waitForValueAsync(E rvalue, Comparator<E> comparator, long waitRetryPeriod) throws ChannelException {
-		return new WaitRetryFuture<E>(channel, elementCount, rvalue, comparator, waitRetryPeriod);
+	public ChannelFuture<E> waitForValueAsync(E rvalue, Comparator<E> comparator, long waitRetryPeriod) throws ChannelException {
+		ScheduledExecutorService s = scheduler;
+		if (s == null) {
+			s = getDefaultScheduler();
+		}
+		return new WaitRetryFuture<E>(channel, requestCount(), handler(), rvalue, comparator, waitRetryPeriod, s);
+	}
+
+	/**
+	 * Get the scheduler used for waits with a retry period
+	 * 
+	 * @return Scheduler or null if the default scheduler is used
+	 */
+	public ScheduledExecutorService getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * Set the scheduler used for waits with a retry period. The scheduler
+	 * tasks do not block, i.e. a single thread can serve any number of waits
+	 * 
+	 * @param scheduler
+	 *            Scheduler - null to use the default scheduler
+	 */
+	public void setScheduler(ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	private static synchronized ScheduledExecutorService getDefaultScheduler() {
+		if (defaultScheduler == null) {
+			defaultScheduler = createScheduler();
+		}
+		return defaultScheduler;
+	}
+
+	/**
+	 * Create a single threaded scheduler with a daemon thread
+	 * 
+	 * @return Scheduler
+	 */
+	static ScheduledExecutorService createScheduler() {
+		return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "jcae-wait-scheduler");
+				t.setDaemon(true);
+				return t;
+			}
+		});
 	}
 
 	@Override
@@ -374,7 +696,8 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	 */
 	@Override
 	public Integer getSize() {
-		return elementCount;
+		SliceHandler<E> s = slice;
+		return s != null ? s.getCount() : elementCount;
 	}
 
     @Override
@@ -382,14 +705,28 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
         if(size == null | size != elementCount) {
             updateSize(size);
 
-            if (monitor != null) {
+            if (monitor != null || subscription != null) {
                 attachMonitor();
             }
         }
     }
 
+    @SuppressWarnings("unchecked")
     private void updateSize(Integer size){
+        this.size = size;
         int csize = channel.getElementCount();
+        if (sliceOffset > 0 || sliceStride > 1) {
+            // Partial read - only the elements up to the last element of the slice are transferred
+            int available = csize > sliceOffset ? (csize - sliceOffset + sliceStride - 1) / sliceStride : 0;
+            int count = (size != null && size > 0) ? size : available;
+            if (count < 1 || count > available) {
+                throw new IllegalArgumentException("Specified slice [offset: " + sliceOffset + " size: " + size + " stride: " + sliceStride + "] is not applicable. Maximum size is " + csize);
+            }
+            this.slice = new SliceHandler<E>(typeHandler, sliceOffset, count, sliceStride);
+            this.elementCount = slice.getElementCount();
+            return;
+        }
+        this.slice = null;
         if (size != null && size > 0) {
             if (size > 0 && size <= csize) {
                 this.elementCount = size;
@@ -403,7 +740,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
             // getValue method for its return value and check if it is an array
             // (in this case the check for
             // ByteArrayString.class.isAssignableFrom(type) is still necessary)
-            if (type.isArray() || ArrayValueHolder.class.isAssignableFrom(type)) {
+            if (Handlers.isArrayType(type)) {
                 this.elementCount = csize; // the size of the array may vary
                 // over time (always take the actual
                 // size of the channel)
@@ -416,6 +753,112 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 
     }
 
+	/**
+	 * Read only a region of the waveform: <code>size</code> elements starting at the
+	 * given offset, taking every <code>stride</code>-th element. Only the elements up to
+	 * the last element of the region are transferred and the value holds the region only.
+	 * Values set are still written starting at the first element of the waveform.
+	 * 
+	 * @param offset
+	 *            Index of the first element
+	 * @param stride
+	 *            Distance between two elements (1 - contiguous region)
+	 * @throws ChannelException
+	 *             Unable to re-establish the monitor
+	 * @throws IllegalArgumentException
+	 *             Invalid slice or the type of the channel cannot be sliced (e.g.
+	 *             <code>ByteArrayString</code>)
+	 */
+	public void setSlice(int offset, int stride) throws ChannelException {
+		if (offset < 0 || stride < 1) {
+			throw new IllegalArgumentException("Invalid slice - offset: " + offset + " stride: " + stride);
+		}
+		if ((offset > 0 || stride > 1) && !Handlers.isArrayType(type)) {
+			throw new IllegalArgumentException("Slices are only supported for array types");
+		}
+		if ((offset > 0 || stride > 1) && !SliceHandler.isSupported(typeHandler)) {
+			throw new IllegalArgumentException("Slices are not supported for " + type.getName());
+		}
+		sliceOffset = offset;
+		sliceStride = stride;
+		updateSize(size);
+		if (monitor != null || subscription != null) {
+			attachMonitor();
+		}
+	}
+
+	/**
+	 * @return Offset of the decoded region of the waveform
+	 */
+	public int getSliceOffset() {
+		return sliceOffset;
+	}
+
+	/**
+	 * @return Stride of the decoded region of the waveform
+	 */
+	public int getSliceStride() {
+		return sliceStride;
+	}
+
+	/**
+	 * Get whether the server decides on the number of elements transferred
+	 * 
+	 * @return the dynamic size mode
+	 */
+	public boolean isDynamicSize() {
+		return dynamicSize;
+	}
+
+	/**
+	 * Enable/disable the dynamic size mode. In this mode gets and monitors are
+	 * issued with element count 0, i.e. the server sends the actual number of
+	 * elements of a variable length waveform (e.g. NORD of a waveform record)
+	 * instead of the configured/maximum size. The length of the values therefore
+	 * varies. The size of the channel limits the number of elements only if the
+	 * server does not support dynamic arrays.
+	 * 
+	 * @param dynamicSize
+	 *            the dynamic size mode to set
+	 * @throws ChannelException
+	 *             Unable to re-establish the monitor
+	 */
+	public void setDynamicSize(boolean dynamicSize) throws ChannelException {
+		if (dynamicSize && !Handlers.isArrayType(type)) {
+			throw new IllegalArgumentException("Dynamic size is only supported for array types");
+		}
+		if (dynamicSize != this.dynamicSize) {
+			this.dynamicSize = dynamicSize;
+			if (monitor != null || subscription != null) {
+				attachMonitor();
+			}
+		}
+	}
+
+	/**
+	 * @return Element count used for requests (0 in dynamic size mode)
+	 */
+	private int requestCount() {
+		return dynamicSize ? 0 : elementCount;
+	}
+
+	/**
+	 * @return Handler decoding the values of this channel
+	 */
+	private Handler<E> handler() {
+		SliceHandler<E> s = slice;
+		return s != null ? s : typeHandler;
+	}
+
+	/**
+	 * Get the Channel Access context of the underlying channel
+	 * 
+	 * @return Context of the channel
+	 */
+	Context getContext() {
+		return channel.getContext();
+	}
+
 	/**
 	 * Get Hostname of the IOC the channel is served
 	 * 
@@ -462,6 +905,248 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			removeMonitor();
 		}
 		this.monitored = monitored;
+
+		synchronized (waitLock) {
+			if (monitored) {
+				// Waits are served by the value monitor
+				removeWaitMonitor();
+			}
+			else if (!waiters.isEmpty() && waitMonitor == null) {
+				attachWaitMonitor();
+			}
+		}
+	}
+
+	/**
+	 * Register a wait on the shared subscription of this channel. The wait is
+	 * completed right away if the cached value already meets its condition.
+	 * 
+	 * @param waiter
+	 *            Wait to register
+	 * @throws ChannelException
+	 *             Unable to establish the wait monitor
+	 */
+	void addWaiter(MonitorWaitFuture<E> waiter) throws ChannelException {
+		synchronized (waitLock) {
+			waiters.add(waiter);
+			if (!monitored && waitMonitor == null) {
+				try {
+					attachWaitMonitor();
+				} catch (ChannelException e) {
+					waiters.remove(waiter);
+					throw e;
+				}
+			}
+		}
+
+		E v = monitored ? currentValue() : waitMonitorValue;
+		if (v != null && waiter.check(v)) {
+			removeWaiter(waiter);
+		}
+	}
+
+	/**
+	 * Deregister a wait. The wait monitor is removed if this was the last
+	 * registered wait.
+	 * 
+	 * @param waiter
+	 *            Wait to deregister
+	 */
+	void removeWaiter(MonitorWaitFuture<E> waiter) {
+		synchronized (waitLock) {
+			if (waiters.remove(waiter) && waiters.isEmpty()) {
+				removeWaitMonitor();
+			}
+		}
+	}
+
+	private void notifyWaiters(E v) {
+		for (MonitorWaitFuture<E> waiter : waiters) {
+			if (waiter.check(v)) {
+				removeWaiter(waiter);
+			}
+		}
+	}
+
+	private void attachWaitMonitor() throws ChannelException {
+		waitMonitorValue = null;
+		try {
+			waitMonitor = channel.addMonitor(dbrType, requestCount(), Monitor.VALUE, new DispatchingMonitorListener(dispatcher, channel) {
+
+				@Override
+				protected void dispatched(MonitorEvent event) {
+					if (event.getStatus() == CAStatus.NORMAL) {
+						try {
+							ChannelMetrics m = metrics;
+							long start = m != null ? System.nanoTime() : 0;
+							E v = handler().getValue(event.getDBR());
+							long decoded = m != null ? System.nanoTime() : 0;
+							waitMonitorValue = v;
+							notifyWaiters(v);
+							if (m != null) {
+								m.monitorEvent(type, decoded - start, System.nanoTime() - decoded);
+							}
+						} catch (Exception e) {
+							logger.log(Level.WARNING, "Exception occured while checking wait condition", e);
+						}
+					}
+					else if (event.getStatus() != null) {
+						logger.warning("Wait monitor failed with status: " + event.getStatus());
+					}
+				}
+			});
+			channel.getContext().flushIO();
+		} catch (CAException e) {
+			throw new ChannelException("Unable to attach wait monitor to channel", e);
+		}
+	}
+
+	private void removeWaitMonitor() {
+		if (waitMonitor != null) {
+			try {
+				waitMonitor.clear();
+				channel.getContext().flushIO();
+			} catch (CAException e) {
+				logger.log(Level.WARNING, "Unable to clear wait monitor", e);
+			} finally {
+				waitMonitor = null;
+				waitMonitorValue = null;
+			}
+		}
+	}
+
+	/**
+	 * Get whether monitor updates are decoded into recycled buffers
+	 * 
+	 * @return the recycle mode
+	 */
+	public boolean isRecycle() {
+		return recycle;
+	}
+
+	/**
+	 * Enable/disable buffer recycling for monitor updates. If enabled a monitor
+	 * update is decoded into the value of the update before the previous one
+	 * (double buffering) instead of into a newly allocated value. This is only
+	 * done for types whose handler supports it (see {@link BufferedHandler}).
+	 * The payload of the update is still allocated by JCA, i.e. this only saves
+	 * the allocation of value wrappers and converted arrays.
+	 * 
+	 * Values passed to listeners or returned by getValue() are not copied and
+	 * are only valid until the second next monitor update. Values that need to
+	 * be kept longer must be copied by the caller.
+	 * 
+	 * @param recycle
+	 *            the recycle mode to set
+	 */
+	public void setRecycle(boolean recycle) {
+		this.recycle = recycle;
+		if (!recycle) {
+			spare = null;
+		}
+	}
+
+	/**
+	 * Get the conflation period of the value notifications
+	 * 
+	 * @return Conflation period in milliseconds, -1 if every update is notified
+	 */
+	public long getConflation() {
+		Conflation c = conflation;
+		return c != null ? c.period : -1;
+	}
+
+	/**
+	 * Enable/disable the conflation of value notifications. In conflation mode
+	 * updates overwrite the value of the channel and the property change
+	 * listeners are notified (on a separate thread) with the latest value at
+	 * most once per period and not before they finished processing the previous
+	 * notification. Intermediate values are skipped. Waits are still checked
+	 * against every update.
+	 * 
+	 * Conflation should not be combined with buffer recycling as a value might
+	 * be overwritten while the listeners are processing it.
+	 * 
+	 * @param period
+	 *            Minimum period between notifications in milliseconds. 0 to
+	 *            notify as soon as the listeners finished the previous
+	 *            notification, negative to notify every update
+	 */
+	public void setConflation(long period) {
+		conflation = period >= 0 ? new Conflation(period) : null;
+	}
+
+	/**
+	 * Notifies the value listeners with the latest value. At most one notification
+	 * is scheduled/running at a time.
+	 */
+	private final class Conflation implements Runnable {
+		private final long period;
+		private final long periodNanos;
+		private final AtomicBoolean pending = new AtomicBoolean();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private E last;
+		private long lastTime;
+
+		Conflation(long period) {
+			this.period = period;
+			this.periodNanos = TimeUnit.MILLISECONDS.toNanos(period);
+			this.lastTime = System.nanoTime() - periodNanos;
+		}
+
+		/**
+		 * Value of the channel was updated
+		 */
+		void updated() {
+			pending.set(true);
+			if (scheduled.compareAndSet(false, true)) {
+				schedule();
+			}
+		}
+
+		private void schedule() {
+			try {
+				long delay = lastTime + periodNanos - System.nanoTime();
+				if (delay <= 0) {
+					ChannelPublisher.getDefaultExecutor().execute(this);
+				}
+				else {
+					ScheduledExecutorService s = scheduler;
+					if (s == null) {
+						s = getDefaultScheduler();
+					}
+					s.schedule(new Runnable() {
+						@Override
+						public void run() {
+							ChannelPublisher.getDefaultExecutor().execute(Conflation.this);
+						}
+					}, delay, TimeUnit.NANOSECONDS);
+				}
+			} catch (RejectedExecutionException e) {
+				// Service is destroyed
+				scheduled.set(false);
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				pending.set(false);
+				lastTime = System.nanoTime();
+				E v = currentValue();
+				E old = last;
+				last = v;
+				propertyChangeSupport.firePropertyChange(PROPERTY_VALUE, old, v);
+			} catch (Exception e) {
+				logger.log(Level.WARNING, "Exception occured while calling callback", e);
+			} finally {
+				scheduled.set(false);
+				// Updates received during the notification
+				if (pending.get() && scheduled.compareAndSet(false, true)) {
+					schedule();
+				}
+			}
+		}
 	}
 
 	private void attachConnectionListener() throws ChannelException {
@@ -469,6 +1154,14 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			listener = new ConnectionListener() {
 				@Override
 				public void connectionChanged(ConnectionEvent event) {
+					if (event.isConnected() && typeHandler instanceof EnumValueHandler) {
+						// Labels might have changed while disconnected
+						try {
+							fetchLabels();
+						} catch (CAException e) {
+							logger.log(Level.WARNING, "Unable to get labels of channel: " + channel.getName(), e);
+						}
+					}
 					propertyChangeSupport.firePropertyChange(PROPERTY_CONNECTED, connected, connected = event.isConnected());
 				}
 			};
@@ -478,6 +1171,33 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 		}
 	}
 
+	/**
+	 * Request the labels of an enum channel. The labels are cached by the handler of the
+	 * channel and attached to all values decoded afterwards.
+	 * 
+	 * @return Future completed with the labels
+	 * @throws CAException
+	 *             Unable to issue the request
+	 */
+	private ChannelFuture<String[]> fetchLabels() throws CAException {
+		final EnumValueHandler h = (EnumValueHandler) typeHandler;
+		final CallbackFuture<String[]> future = new CallbackFuture<String[]>();
+		channel.get(DBRType.CTRL_ENUM, 1, new GetListener() {
+			@Override
+			public void getCompleted(GetEvent event) {
+				if (event.getStatus() != CAStatus.NORMAL || !(event.getDBR() instanceof LABELS)) {
+					future.fail(new ChannelException("Unable to get labels of channel: " + channel.getName() + " - " + event.getStatus().getMessage()));
+					return;
+				}
+				String[] labels = ((LABELS) event.getDBR()).getLabels();
+				h.setLabels(labels);
+				future.complete(labels);
+			}
+		});
+		channel.getContext().flushIO();
+		return future;
+	}
+
 	private void removeConnectionListener() throws ChannelException {
 		try {
 			channel.removeConnectionListener(listener);
@@ -489,29 +1209,63 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 
 	private void attachMonitor() throws ChannelException {
 
-		if (monitor != null) {
+		if (monitor != null || subscription != null) {
 			logger.warning("There is already an monitor attached - removing old one and attaching new");
 			removeMonitor();
 		}
 
+		if (multiplexer != null && !recycle && slice == null && !(typeHandler instanceof EnumValueHandler) && MonitorMultiplexer.isShareable(type)) {
+			// Share the monitor with the other channels of the same type and size (immutable values only)
+			try {
+				subscription = multiplexer.subscribe(this, channel, type, typeHandler, requestCount());
+				channel.getContext().flushIO();
+			} catch (CAException e) {
+				throw new ChannelException("Unable to attach monitor to channel", e);
+			}
+			return;
+		}
+
 		try {
 
-			monitor = channel.addMonitor(Handlers.HANDLERS.get(type).getDBRType(), elementCount, Monitor.VALUE, new MonitorListener() {                        
+			monitor = channel.addMonitor(dbrType, requestCount(), Monitor.VALUE, new DispatchingMonitorListener(dispatcher, channel) {                        
 
 				@SuppressWarnings("unchecked")
 				@Override
-				public void monitorChanged(MonitorEvent event) {
+				protected void dispatched(MonitorEvent event) {
 					if (event.getStatus() == CAStatus.NORMAL) {
 						try {
-                                                        //Only verifying if in monitor callback for QueuedEventDispatcher (single callbavck thread)
-                                                        threadEventDispatcher = Thread.currentThread();
-							E v = (E) Handlers.HANDLERS.get(type).getValue(event.getDBR());
-							propertyChangeSupport.firePropertyChange(PROPERTY_VALUE, value.getAndSet(v), v);
+							ChannelMetrics m = metrics;
+							long start = m != null ? System.nanoTime() : 0;
+							DBR dbr = event.getDBR();
+							firePrimitiveListeners(dbr);
+							if (isDecodeDeferred()) {
+								pending.set(dbr);
+								if (m != null) {
+									m.monitorEvent(type, 0, System.nanoTime() - start);
+								}
+								return;
+							}
+							clearPending();
+							Handler<E> handler = handler();
+							E v;
+							if (recycle && handler instanceof BufferedHandler) {
+								v = ((BufferedHandler<E>) handler).getValue(dbr, spare);
+							}
+							else {
+								v = handler.getValue(dbr);
+							}
+							long decoded = m != null ? System.nanoTime() : 0;
+							E old = update(v);
+							if (m != null) {
+								m.monitorEvent(type, decoded - start, System.nanoTime() - decoded);
+							}
+							if (recycle) {
+								// The current old value will be overwritten by the next update
+								spare = (old != v) ? old : null;
+							}
 						} catch (Exception e) {
 							logger.log(Level.WARNING, "Exception occured while calling callback", e);
-						} finally{
-                                                    threadEventDispatcher = null;
-                                                }
+						}
 					} else {
 						if (!((Channel) event.getSource()).getConnectionState().equals(ConnectionState.CLOSED)) {
                                                     if (event.getStatus() !=null){
@@ -533,6 +1287,11 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 
 	private void removeMonitor() throws ChannelException {
 		try {
+			if (subscription != null) {
+				if (multiplexer.unsubscribe(subscription, this)) {
+					channel.getContext().flushIO();
+				}
+			}
 			if (monitor != null) {
 				logger.finest("Clear monitor - " + monitor.hashCode());
 				monitor.clear();
@@ -542,6 +1301,8 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			throw new ChannelException("Unable to remove monitor to channel");
 		} finally {
 			monitor = null;
+			subscription = null;
+			clearPending();
 		}
 	}
 
@@ -556,17 +1317,293 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 	public void destroy() throws ChannelException {
 
 		removeMonitor();
+		synchronized (waitLock) {
+			removeWaitMonitor();
+		}
 		removeConnectionListener();
 
 		try {
-			Context c = channel.getContext();
-			channel.destroy();
-			c.flushIO();
+			ChannelPool p;
+			synchronized (this) {
+				p = pool;
+				if (p != null) {
+					if (released) {
+						return;
+					}
+					released = true;
+				}
+			}
+			if (p != null) {
+				// Shared CA channel - only destroyed if this was the last reference
+				p.release(channel);
+			} else {
+				Context c = channel.getContext();
+				channel.destroy();
+				c.flushIO();
+			}
 		} catch (CAException e) {
 			throw new ChannelException("Unable to destroy channel", e);
 		}
 	}
+
+	/**
+	 * Set the pool the CA channel of this object was acquired from. On destruction
+	 * the channel is released to the pool instead of being destroyed. The metrics
+	 * of the channel (if enabled) are the ones of the pooled CA channel.
+	 * 
+	 * @param pool
+	 *            Pool
+	 */
+	void setPool(ChannelPool pool) {
+		this.pool = pool;
+		this.metrics = pool.getMetrics(channel);
+	}
+
+	/**
+	 * Get the metrics of the channel. Channels of a service with the same name share
+	 * their metrics.
+	 * 
+	 * @return Metrics or null if metrics are disabled (or the channel was not created
+	 *         by a ChannelService)
+	 */
+	public ChannelMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Set the multiplexer used to share the value monitor with other channels.
+	 * Has to be set before the channel gets monitored. Channels in buffer recycling
+	 * mode always attach their own monitor.
+	 * 
+	 * @param multiplexer
+	 *            Multiplexer
+	 */
+	void setMultiplexer(MonitorMultiplexer multiplexer) {
+		this.multiplexer = multiplexer;
+	}
+
+	/**
+	 * Set the dispatcher pool the monitor callbacks of this channel are executed on.
+	 * Has to be set before the channel gets monitored.
+	 * 
+	 * @param dispatcher
+	 *            Dispatcher pool - null to execute the callbacks on the CA event dispatch thread
+	 */
+	void setDispatcher(DispatcherPool dispatcher) {
+		this.dispatcher = dispatcher;
+	}
+
+	/**
+	 * @return Dispatcher pool the monitor callbacks are executed on (null if executed on the
+	 *         CA event dispatch thread)
+	 */
+	DispatcherPool getDispatcher() {
+		return dispatcher;
+	}
+
+	/**
+	 * Apply a value received by the value monitor. Values passed by a shared monitor
+	 * are the same object for all channels of the monitor.
+	 * 
+	 * @param v
+	 *            New value
+	 * @return Previous value
+	 */
+	E update(E v) {
+		clearPending();
+		E old = value.getAndSet(v);
+		notifyWaiters(v);
+		Conflation c = conflation;
+		if (c != null) {
+			c.updated();
+		}
+		else {
+			propertyChangeSupport.firePropertyChange(PROPERTY_VALUE, old, v);
+		}
+		return old;
+	}
 	
+	/**
+	 * Get the cached value of a monitored channel. A pending (not yet decoded) DBR is
+	 * decoded first.
+	 * 
+	 * @return Cached value
+	 * @throws ChannelException
+	 *             Unable to decode the pending DBR
+	 */
+	private E currentValue() throws ChannelException {
+		if (pending.get() != null) {
+			synchronized (pending) {
+				DBR dbr = pending.get();
+				if (dbr != null) {
+					try {
+						value.set(handler().getValue(dbr));
+					} catch (CAStatusException e) {
+						throw new ChannelException("Unable to decode value of channel: " + channel.getName(), e);
+					}
+					// Fails if a newer DBR was received meanwhile (decoded on next access)
+					pending.compareAndSet(dbr, null);
+				}
+			}
+		}
+		return value.get();
+	}
+
+	/**
+	 * Drop a pending DBR as a decoded value is applied. Synchronized with
+	 * <code>currentValue()</code> so that a concurrent decode of the pending DBR
+	 * does not overwrite the newer value.
+	 */
+	private void clearPending() {
+		if (pending.get() != null) {
+			synchronized (pending) {
+				pending.set(null);
+			}
+		}
+	}
+
+	/**
+	 * Decoding of monitor updates is deferred to the next access of the value if the
+	 * updates are only consumed by primitive listeners.
+	 */
+	private boolean isDecodeDeferred() {
+		return (doubleListeners.length > 0 || integerListeners.length > 0) && !recycle && conflation == null && waiters.isEmpty()
+				&& !propertyChangeSupport.hasListeners(PROPERTY_VALUE);
+	}
+
+	/**
+	 * Notify the primitive listeners with the value of the passed DBR
+	 * 
+	 * @param dbr
+	 *            DBR received by the value monitor
+	 */
+	void firePrimitiveListeners(DBR dbr) {
+		DoubleListener[] dl = doubleListeners;
+		IntegerListener[] il = integerListeners;
+		if (dl.length == 0 && il.length == 0) {
+			return;
+		}
+		long timestamp = 0;
+		long nanosecondOffset = 0;
+		int severity = 0;
+		if (dbr instanceof TIME) {
+			TimeStamp t = ((TIME) dbr).getTimeStamp();
+			timestamp = TimeHelper.getTimeMillis(t);
+			nanosecondOffset = TimeHelper.getTimeNanoOffset(t);
+		}
+		if (dbr instanceof STS) {
+			severity = ((STS) dbr).getSeverity().getValue();
+		}
+		if (dl.length > 0) {
+			double v = Handlers.getDoubleValue(dbr);
+			for (int i = 0; i < dl.length; i++) {
+				try {
+					dl[i].valueChanged(v, timestamp, nanosecondOffset, severity);
+				} catch (Exception e) {
+					logger.log(Level.WARNING, "Exception occured while calling callback", e);
+				}
+			}
+		}
+		if (il.length > 0) {
+			int v = Handlers.getIntValue(dbr);
+			for (int i = 0; i < il.length; i++) {
+				try {
+					il[i].valueChanged(v, timestamp, nanosecondOffset, severity);
+				} catch (Exception e) {
+					logger.log(Level.WARNING, "Exception occured while calling callback", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add a listener receiving the value updates as primitive double. The listener is called
+	 * from the monitor callback without boxing the value or creating an event. If the
+	 * channel is not set to monitored it will be automatically set to be monitored!
+	 * 
+	 * @param l
+	 *            Listener object
+	 * @throws IllegalArgumentException
+	 *             Channel is not of a scalar numeric type (e.g. Double, Float,
+	 *             Integer, Short, Byte or the corresponding timestamp types)
+	 */
+	public void addDoubleListener(DoubleListener l) {
+		DBRType t = dbrType;
+		if (!isScalar() || !(t.isDOUBLE() || t.isFLOAT() || t.isINT() || t.isSHORT() || t.isBYTE())) {
+			throw new IllegalArgumentException("Type " + type.getName() + " not supported by double listeners");
+		}
+		synchronized (this) {
+			DoubleListener[] a = Arrays.copyOf(doubleListeners, doubleListeners.length + 1);
+			a[a.length - 1] = l;
+			doubleListeners = a;
+		}
+		monitorForListeners();
+	}
+
+	/**
+	 * Remove a primitive double listener
+	 * 
+	 * @param l
+	 *            Listener object
+	 */
+	public synchronized void removeDoubleListener(DoubleListener l) {
+		List<DoubleListener> a = new ArrayList<DoubleListener>(Arrays.asList(doubleListeners));
+		if (a.remove(l)) {
+			doubleListeners = a.toArray(new DoubleListener[a.size()]);
+		}
+	}
+
+	/**
+	 * Add a listener receiving the value updates as primitive int. The listener is called
+	 * from the monitor callback without boxing the value or creating an event. If the
+	 * channel is not set to monitored it will be automatically set to be monitored!
+	 * 
+	 * @param l
+	 *            Listener object
+	 * @throws IllegalArgumentException
+	 *             Channel is not of a scalar integer type (Integer, Short, Byte or the
+	 *             corresponding timestamp types)
+	 */
+	public void addIntegerListener(IntegerListener l) {
+		DBRType t = dbrType;
+		if (!isScalar() || !(t.isINT() || t.isSHORT() || t.isBYTE())) {
+			throw new IllegalArgumentException("Type " + type.getName() + " not supported by integer listeners");
+		}
+		synchronized (this) {
+			IntegerListener[] a = Arrays.copyOf(integerListeners, integerListeners.length + 1);
+			a[a.length - 1] = l;
+			integerListeners = a;
+		}
+		monitorForListeners();
+	}
+
+	/**
+	 * Remove a primitive int listener
+	 * 
+	 * @param l
+	 *            Listener object
+	 */
+	public synchronized void removeIntegerListener(IntegerListener l) {
+		List<IntegerListener> a = new ArrayList<IntegerListener>(Arrays.asList(integerListeners));
+		if (a.remove(l)) {
+			integerListeners = a.toArray(new IntegerListener[a.size()]);
+		}
+	}
+
+	private boolean isScalar() {
+		return !Handlers.isArrayType(type);
+	}
+
+	private void monitorForListeners() {
+		try {
+			if (!isMonitored()) {
+				setMonitored(true);
+			}
+		} catch (ChannelException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	@Override
 	public void close(){
 		try{
@@ -598,6 +1635,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			if (!isMonitored()) {
 				setMonitored(true);
 			}
+			currentValue();
 			propertyChangeSupport.addPropertyChangeListener(l);
 		} catch (ChannelException e) {
 			throw new RuntimeException(e);
@@ -610,6 +1648,7 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			if (!isMonitored()) {
 				setMonitored(true);
 			}
+			currentValue();
 			propertyChangeSupport.addPropertyChangeListener(name, l);
 		} catch (ChannelException e) {
 			throw new RuntimeException(e);
@@ -627,6 +1666,29 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 		propertyChangeSupport.removePropertyChangeListener(l);
 	}
 
+	/**
+	 * Remove property change listener registered for a specific property
+	 * 
+	 * @param name
+	 *            Name of the property
+	 * @param l
+	 *            Listener object
+	 */
+	@Override
+	public void removePropertyChangeListener(String name, PropertyChangeListener l) {
+		propertyChangeSupport.removePropertyChangeListener(name, l);
+	}
+
+	/**
+	 * Get all property change listeners registered for this object
+	 * 
+	 * @return Listeners (listeners for a specific property are wrapped into a
+	 *         <code>PropertyChangeListenerProxy</code>)
+	 */
+	public PropertyChangeListener[] getPropertyChangeListeners() {
+		return propertyChangeSupport.getPropertyChangeListeners();
+	}
+
 	@Override
 	public Class<?> getFieldType() {
 		return Handlers.getFieldType(this.channel.getFieldType(), this.elementCount > 1);
@@ -688,5 +1750,10 @@ public class DefaultChannel<E> implements ch.psi.jcae.Channel<E> {
 			throw new RuntimeException(e);
 		}
 	}
+
+	@Override
+	public Flow.Publisher<E> getPublisher(Backpressure backpressure, int capacity) {
+		return new ChannelPublisher<E>(this, backpressure, capacity);
+	}
 }
 
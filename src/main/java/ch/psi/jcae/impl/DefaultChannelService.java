@@ -6,17 +6,25 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import ch.psi.jcae.Channel;
 import ch.psi.jcae.ChannelDescriptor;
 import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.ChannelGroupException;
 import ch.psi.jcae.ChannelService;
 import ch.psi.jcae.CompositeChannelDescriptor;
 import ch.psi.jcae.Context;
@@ -38,7 +46,36 @@ public class DefaultChannelService implements ChannelService {
 	
 	private static final Logger logger = Logger.getLogger(DefaultChannelService.class.getName());
 
-	private final JCAChannelFactory channelFactory;
+	/**
+	 * Factories (one per CA context) the channels of this service are sharded onto
+	 */
+	private final List<JCAChannelFactory> channelFactories;
+	
+	/**
+	 * CA channels shared by the channels of this service (keyed by name)
+	 */
+	private final ChannelPool pool;
+	
+	/**
+	 * Metrics of this service and its channels (null if metrics are disabled)
+	 */
+	private final ServiceMetrics metrics;
+	
+	/**
+	 * Monitors shared by the channels of this service
+	 */
+	private final MonitorMultiplexer multiplexer = new MonitorMultiplexer();
+	
+	/**
+	 * Scheduler shared by all channels of this service (renewal of the monitors of waits with retry period)
+	 */
+	private ScheduledExecutorService scheduler;
+	
+	/**
+	 * Worker threads the monitor callbacks of the channels of this service are dispatched to
+	 * (null if the callbacks are executed on the CA event dispatch thread)
+	 */
+	private DispatcherPool dispatcher;
 	
 	private boolean dryrun;
 	private Map<String,String> globalMacros = new HashMap<String,String>();
@@ -66,12 +103,9 @@ public class DefaultChannelService implements ChannelService {
 		
 		
 		
-		try{
-			channelFactory = new JCAChannelFactory();
-		}
-		catch(CAException e){
-			throw new RuntimeException("Unable to initialize internal channel factory",e);
-		}
+		channelFactories = createChannelFactories();
+		metrics = createMetrics();
+		pool = new ChannelPool(channelFactories, metrics);
 	}
 	
 	public DefaultChannelService(){
@@ -87,17 +121,14 @@ public class DefaultChannelService implements ChannelService {
 	 */
 	public DefaultChannelService(boolean dryrun){
 		this.dryrun = dryrun;
-		try{
-			channelFactory = new JCAChannelFactory();
-		}
-		catch(CAException e){
-			throw new RuntimeException("Unable to initialize internal channel factory",e);
-		}
+		channelFactories = createChannelFactories();
+		metrics = createMetrics();
+		pool = new ChannelPool(channelFactories, metrics);
 	}
 	
         public Class getDefaultType(String channelName) throws ChannelException, InterruptedException{                                                                        
             try {
-                gov.aps.jca.Channel channel = channelFactory.createChannel(channelName);
+                gov.aps.jca.Channel channel = pool.getFactory(channelName).createChannel(channelName);
                 Class ret = getDefaultType(channel);
                 gov.aps.jca.Context c = channel.getContext();
                 channel.destroy();
@@ -125,10 +156,10 @@ public class DefaultChannelService implements ChannelService {
         }
         
 	/**
-	 * Create ChannelBean object of the specified type. A new Channel object will be created 
-	 * for each new bean (even if the channel theoretically already exists)
-	 * The created channel will be automatically destroyed if the ChannelBeans destroy() or finalize() method
-	 * is called.
+	 * Create ChannelBean object of the specified type. All beans of this service referring to the
+	 * same channel name share one Channel object (i.e. one connection).
+	 * The shared channel will be automatically destroyed if the destroy() or finalize() method of
+	 * the last bean referring to it is called.
 	 * @param <T> -
 	 * @param descriptor -
 	 * 
@@ -138,6 +169,7 @@ public class DefaultChannelService implements ChannelService {
 	 * @throws ChannelException  -
 	 * @throws TimeoutException  -
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Channel<T> createChannel(Descriptor<T> descriptor) throws ChannelException, InterruptedException, TimeoutException {
 
@@ -145,14 +177,24 @@ public class DefaultChannelService implements ChannelService {
 		if (descriptor instanceof ChannelDescriptor) {
 			ChannelDescriptor<T> d = (ChannelDescriptor<T>) descriptor;
 			try {
-                            gov.aps.jca.Channel channel = channelFactory.createChannel(d.getName());
-                            if (d.getType() == null){                                
-                                if (descriptor.getSize()==null){
-                                    d.setSize(channel.getElementCount());
+                            gov.aps.jca.Channel channel = pool.acquire(d.getName());
+                            List<gov.aps.jca.Channel> acquired = new ArrayList<gov.aps.jca.Channel>(Collections.singletonList(channel));
+                            List<DefaultChannel<?>> created = new ArrayList<DefaultChannel<?>>();
+                            boolean done = false;
+                            try {
+                                if (d.getType() == null){                                
+                                    if (descriptor.getSize()==null){
+                                        d.setSize(channel.getElementCount());
+                                    }
+                                    ca = configure(create((Class<T>) getDefaultType(channel), channel, d.getSize(), acquired, created), d);
+                                } else {
+                                    ca = configure(create(d.getType(), channel, d.getSize(), acquired, created), d);
+                                }
+                                done = true;
+                            } finally {
+                                if (!done){
+                                    discard(created, acquired);
                                 }
-                                ca = new DefaultChannel(getDefaultType(channel), channel, d.getSize(), d.getMonitored());
-                            } else {
-                                ca = new DefaultChannel<T>(d.getType(), channel, d.getSize(), d.getMonitored());
                             }
 			} catch (CAException e){
 				throw new ChannelException("Unable to create channel " + d.getName(), e);
@@ -166,9 +208,18 @@ public class DefaultChannelService implements ChannelService {
 				names.add(d.getName());
 				names.add(d.getReadback());
 				
-				List<gov.aps.jca.Channel> channels = channelFactory.createChannels(names);
-				
-				ca = new CompositeChannel<T>(new DefaultChannel<T>(d.getType(), channels.get(0), d.getSize(), false), new DefaultChannel<T>(d.getType(), channels.get(1), d.getSize(), d.getMonitored()));
+				List<gov.aps.jca.Channel> channels = pool.acquire(names);
+				List<gov.aps.jca.Channel> acquired = new ArrayList<gov.aps.jca.Channel>(channels);
+				List<DefaultChannel<?>> created = new ArrayList<DefaultChannel<?>>();
+				boolean done = false;
+				try {
+					ca = new CompositeChannel<T>(create(d.getType(), channels.get(0), d.getSize(), acquired, created), configure(create(d.getType(), channels.get(1), d.getSize(), acquired, created), d));
+					done = true;
+				} finally {
+					if (!done){
+						discard(created, acquired);
+					}
+				}
 			} catch (CAException e){
 				throw new ChannelException("Unable to create channel " + d.getName(), e);
 			} catch( ExecutionException e){
@@ -217,26 +268,35 @@ public class DefaultChannelService implements ChannelService {
 					names.add(dd.getReadback());
 				}
 			}
-			List<gov.aps.jca.Channel> channels = channelFactory.createChannels(names);
-			
-			int ccount = 0;
-			for(Descriptor<?> d: list){
-				if(d instanceof ChannelDescriptor){
-					channelObject.add(new DefaultChannel(d.getType(), channels.get(ccount), d.getSize(), d.getMonitored()));
-					ccount++;
-				}
-				else if(d instanceof CompositeChannelDescriptor){
-					
-					DefaultChannel<?> c = new DefaultChannel(d.getType(), channels.get(ccount), d.getSize(), false);
-					ccount++;
-					DefaultChannel<?> cr = new DefaultChannel(d.getType(), channels.get(ccount), d.getSize(), d.getMonitored());
-					
-					channelObject.add(new CompositeChannel(c, cr));
-					ccount++;
+			List<gov.aps.jca.Channel> channels = pool.acquire(names);
+			List<gov.aps.jca.Channel> acquired = new ArrayList<gov.aps.jca.Channel>(channels);
+			List<DefaultChannel<?>> created = new ArrayList<DefaultChannel<?>>();
+			boolean done = false;
+			try {
+				int ccount = 0;
+				for(Descriptor<?> d: list){
+					if(d instanceof ChannelDescriptor){
+						channelObject.add(configure(create(d.getType(), channels.get(ccount), d.getSize(), acquired, created), d));
+						ccount++;
+					}
+					else if(d instanceof CompositeChannelDescriptor){
+						
+						DefaultChannel<?> c = create(d.getType(), channels.get(ccount), d.getSize(), acquired, created);
+						ccount++;
+						DefaultChannel<?> cr = configure(create(d.getType(), channels.get(ccount), d.getSize(), acquired, created), d);
+						
+						channelObject.add(new CompositeChannel(c, cr));
+						ccount++;
+					}
+					else if(d instanceof DummyChannelDescriptor){
+						DummyChannelDescriptor<?> dd = (DummyChannelDescriptor<?>) d;
+						channelObject.add(new DummyChannel(dd.getType(), dd.getName(), dd.getSize(), dd.getMonitored()));
+					}
 				}
-				else if(d instanceof DummyChannelDescriptor){
-					DummyChannelDescriptor<?> dd = (DummyChannelDescriptor<?>) d;
-					channelObject.add(new DummyChannel(dd.getType(), dd.getName(), dd.getSize(), dd.getMonitored()));
+				done = true;
+			} finally {
+				if (!done){
+					discard(created, acquired);
 				}
 			}
 		} catch (CAException e){
@@ -249,6 +309,327 @@ public class DefaultChannelService implements ChannelService {
 		return channelObject;
 	}
 	
+	@Override
+	public List<Object> getValues(List<? extends Channel<?>> channels) throws InterruptedException, ExecutionException, ChannelException {
+		return getValuesAsync(channels, false).get();
+	}
+	
+	@Override
+	public List<Object> getValues(List<? extends Channel<?>> channels, boolean force) throws InterruptedException, ExecutionException, ChannelException {
+		return getValuesAsync(channels, force).get();
+	}
+	
+	@Override
+	public ChannelFuture<List<Object>> getValuesAsync(List<? extends Channel<?>> channels) throws ChannelException {
+		return getValuesAsync(channels, false);
+	}
+	
+	/**
+	 * Get the values of a group of channels asynchronously. The get requests of all channels
+	 * are queued and the involved contexts are flushed only once, i.e. reading the values of the 
+	 * group takes roughly one network round trip instead of one per channel. 
+	 * 
+	 * @param channels	Channels to read
+	 * @param force		Force the library to get the values of monitored channels via the network
+	 * @return	Future to retrieve the values (in the order of the passed list)
+	 * @throws ChannelException	Unable to flush the requests
+	 */
+	@Override
+	public ChannelFuture<List<Object>> getValuesAsync(List<? extends Channel<?>> channels, boolean force) throws ChannelException {
+		GroupFuture future = new GroupFuture();
+		Set<gov.aps.jca.Context> contexts = new LinkedHashSet<gov.aps.jca.Context>();
+		for(Channel<?> channel: channels){
+			Channel<?> target = channel;
+			if(target instanceof CompositeChannel){
+				target = ((CompositeChannel<?>) target).getReadback();
+			}
+			try{
+				if(target instanceof DefaultChannel){
+					DefaultChannel<?> c = (DefaultChannel<?>) target;
+					future.add(channel, c.getValueAsync(force, false));
+					contexts.add(c.getContext());
+				}
+				else{
+					future.add(channel, target.getValueAsync(force));
+				}
+			}
+			catch(ChannelException | RuntimeException e){
+				future.fail(channel, e);
+			}
+		}
+		flush(contexts);
+		return future.start();
+	}
+	
+	@Override
+	public List<Object> setValues(Map<? extends Channel<?>, ?> values) throws InterruptedException, ExecutionException, ChannelException {
+		return setValuesAsync(values).get();
+	}
+	
+	/**
+	 * Set the values of a group of channels asynchronously. The put requests of all channels
+	 * are queued and the involved contexts are flushed only once. The returned future completes
+	 * when the puts of all channels have completed.
+	 * 
+	 * @param values	Channels and the value to set
+	 * @return	Future to determine when the puts are done (values in iteration order of the map)
+	 * @throws ChannelException	Unable to flush the requests
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public ChannelFuture<List<Object>> setValuesAsync(Map<? extends Channel<?>, ?> values) throws ChannelException {
+		GroupFuture future = new GroupFuture();
+		Set<gov.aps.jca.Context> contexts = new LinkedHashSet<gov.aps.jca.Context>();
+		for(Map.Entry<? extends Channel<?>, ?> entry: values.entrySet()){
+			Channel<?> channel = entry.getKey();
+			Channel<?> target = channel;
+			if(target instanceof CompositeChannel){
+				target = ((CompositeChannel<?>) target).getChannel();
+			}
+			try{
+				if(target instanceof DefaultChannel){
+					DefaultChannel<Object> c = (DefaultChannel<Object>) target;
+					future.add(channel, c.setValueAsync(entry.getValue(), false));
+					contexts.add(c.getContext());
+				}
+				else{
+					future.add(channel, ((Channel<Object>) target).setValueAsync(entry.getValue()));
+				}
+			}
+			catch(ChannelException | RuntimeException e){
+				future.fail(channel, e);
+			}
+		}
+		flush(contexts);
+		return future.start();
+	}
+	
+	/**
+	 * Set the values of a group of channels without waiting for any response. 
+	 * The involved contexts are flushed only once.
+	 * 
+	 * @param values	Channels and the value to set
+	 * @throws ChannelException	Unable to issue the put for some of the channels (see {@link ChannelGroupException}) 
+	 * 							or unable to flush the requests
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void setValuesNoWait(Map<? extends Channel<?>, ?> values) throws ChannelException {
+		Map<Channel<?>, Throwable> failures = new LinkedHashMap<Channel<?>, Throwable>();
+		List<Object> set = new ArrayList<Object>(values.size());
+		Set<gov.aps.jca.Context> contexts = new LinkedHashSet<gov.aps.jca.Context>();
+		for(Map.Entry<? extends Channel<?>, ?> entry: values.entrySet()){
+			Channel<?> channel = entry.getKey();
+			Channel<?> target = channel;
+			if(target instanceof CompositeChannel){
+				target = ((CompositeChannel<?>) target).getChannel();
+			}
+			try{
+				if(target instanceof DefaultChannel){
+					DefaultChannel<Object> c = (DefaultChannel<Object>) target;
+					c.setValueNoWait(entry.getValue(), false);
+					contexts.add(c.getContext());
+				}
+				else{
+					((Channel<Object>) target).setValueNoWait(entry.getValue());
+				}
+				set.add(entry.getValue());
+			}
+			catch(ChannelException | ExecutionException | RuntimeException e){
+				failures.put(channel, e);
+				set.add(null);
+			}
+			catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				failures.put(channel, e);
+				set.add(null);
+			}
+		}
+		flush(contexts);
+		if(!failures.isEmpty()){
+			throw new ChannelGroupException(failures, set);
+		}
+	}
+	
+	/**
+	 * Flush the passed contexts
+	 * @param contexts	Contexts to flush
+	 * @throws ChannelException	Unable to flush context
+	 */
+	private void flush(Set<gov.aps.jca.Context> contexts) throws ChannelException{
+		for(gov.aps.jca.Context context: contexts){
+			try{
+				context.flushIO();
+			}
+			catch(CAException e){
+				throw new ChannelException("Unable to flush requests", e);
+			}
+		}
+	}
+	
+	/**
+	 * Create the channel factories of this service - one per context (<code>JcaeProperties.getContexts()</code>)
+	 * @return	Channel factories
+	 */
+	private static List<JCAChannelFactory> createChannelFactories(){
+		int n = Math.max(1, JcaeProperties.getInstance().getContexts());
+		List<JCAChannelFactory> factories = new ArrayList<JCAChannelFactory>(n);
+		try{
+			for(int i=0;i<n;i++){
+				factories.add(new JCAChannelFactory());
+			}
+		}
+		catch(CAException e){
+			for(JCAChannelFactory factory: factories){
+				try {
+					factory.destroyContext();
+				} catch (CAException ex) {
+					logger.log(Level.WARNING, "Unable to destroy context", ex);
+				}
+			}
+			throw new RuntimeException("Unable to initialize internal channel factory",e);
+		}
+		return factories;
+	}
+	
+	/**
+	 * Create the metrics of this service if enabled (<code>JcaeProperties.isMetrics()</code>)
+	 * @return	Metrics registered via JMX or null if metrics are disabled
+	 */
+	private static ServiceMetrics createMetrics(){
+		if(!JcaeProperties.getInstance().isMetrics()){
+			return null;
+		}
+		ServiceMetrics m = new ServiceMetrics();
+		m.register();
+		return m;
+	}
+	
+	/**
+	 * Get the metrics of this service. The metrics aggregate all channels of the service,
+	 * the metrics of the individual channels are available via <code>getChannel(name)</code>
+	 * @return	Metrics or null if metrics are disabled
+	 */
+	public ServiceMetrics getMetrics(){
+		return metrics;
+	}
+	
+	/**
+	 * Apply the optional settings of the descriptor to the passed (not monitored) channel and
+	 * set the channel monitored if requested by the descriptor
+	 * @param channel		Channel to configure
+	 * @param descriptor	Descriptor the channel was created from
+	 * @return	Passed channel
+	 * @throws ChannelException	Unable to monitor channel
+	 */
+	private <T> DefaultChannel<T> configure(DefaultChannel<T> channel, Descriptor<?> descriptor) throws ChannelException{
+		channel.setRecycle(Boolean.TRUE.equals(descriptor.getRecycle()) && descriptor.getConflation() == null);
+		channel.setConflation(descriptor.getConflation() != null ? descriptor.getConflation() : -1);
+		if(Boolean.TRUE.equals(descriptor.getDynamicSize())){
+			channel.setDynamicSize(true);
+		}
+		if(descriptor.getOffset() != null || descriptor.getStride() != null){
+			channel.setSlice(descriptor.getOffset() != null ? descriptor.getOffset() : 0, descriptor.getStride() != null ? descriptor.getStride() : 1);
+		}
+		channel.setMonitored(Boolean.TRUE.equals(descriptor.getMonitored()));
+		return channel;
+	}
+	
+	/**
+	 * Apply the conflation setting of an annotation to the passed descriptor
+	 * @param descriptor	Descriptor
+	 * @param conflation	Conflation period of the annotation (negative - no conflation)
+	 * @return	Passed descriptor
+	 */
+	private static <D extends Descriptor<?>> D conflate(D descriptor, long conflation){
+		if(conflation >= 0){
+			descriptor.setConflation(conflation);
+		}
+		return descriptor;
+	}
+	
+	/**
+	 * Create a channel for an acquired CA channel and attach it to the resources of this
+	 * service. The reference to the CA channel is then held by the created channel.
+	 * @param type		Type of the channel
+	 * @param channel	Acquired CA channel
+	 * @param size		Size of the channel
+	 * @param acquired	CA channels acquired but not yet held by a created channel (the CA channel is removed)
+	 * @param created	Channels created so far (the created channel is added)
+	 * @return	Created channel
+	 */
+	private <T> DefaultChannel<T> create(Class<T> type, gov.aps.jca.Channel channel, Integer size, List<gov.aps.jca.Channel> acquired, List<DefaultChannel<?>> created) throws InterruptedException, TimeoutException, ChannelException, ExecutionException{
+		DefaultChannel<T> c = attach(new DefaultChannel<T>(type, channel, size, false));
+		acquired.remove(channel);
+		created.add(c);
+		return c;
+	}
+	
+	/**
+	 * Release the resources of a failed channel creation, i.e. destroy the channels created so
+	 * far and release the CA channels that are not held by a created channel
+	 * @param created	Created channels
+	 * @param acquired	Acquired CA channels not held by a created channel
+	 */
+	private void discard(List<DefaultChannel<?>> created, List<gov.aps.jca.Channel> acquired){
+		for(DefaultChannel<?> c: created){
+			try{
+				c.destroy();
+			}
+			catch(ChannelException | RuntimeException e){
+				logger.log(Level.WARNING, "Unable to destroy channel "+c.getName(), e);
+			}
+		}
+		for(gov.aps.jca.Channel c: acquired){
+			try{
+				pool.release(c);
+			}
+			catch(CAException | RuntimeException e){
+				logger.log(Level.WARNING, "Unable to release channel "+c.getName(), e);
+			}
+		}
+	}
+	
+	/**
+	 * Attach the passed channel to the resources of this service
+	 * @param channel		Channel created by this service
+	 * @return	Passed channel
+	 */
+	private <T> DefaultChannel<T> attach(DefaultChannel<T> channel){
+		channel.setPool(pool);
+		channel.setMultiplexer(multiplexer);
+		channel.setScheduler(getScheduler());
+		channel.setDispatcher(getDispatcher());
+		return channel;
+	}
+	
+	/**
+	 * Get the scheduler of this service. The scheduler is (re)created on demand, i.e. also
+	 * after the service was destroyed
+	 * @return	Scheduler
+	 */
+	private synchronized ScheduledExecutorService getScheduler(){
+		if(scheduler == null){
+			scheduler = DefaultChannel.createScheduler();
+		}
+		return scheduler;
+	}
+	
+	/**
+	 * Get the dispatcher pool of this service. The pool is (re)created on demand if
+	 * <code>dispatcherThreads</code> is configured
+	 * @return	Dispatcher pool or null if callbacks are executed on the CA event dispatch thread
+	 */
+	private synchronized DispatcherPool getDispatcher(){
+		if(dispatcher == null){
+			int threads = JcaeProperties.getInstance().getDispatcherThreads();
+			if(threads > 0){
+				dispatcher = new DispatcherPool(threads);
+			}
+		}
+		return dispatcher;
+	}
+	
 	@Override
 	public void createAnnotatedChannels(Object object) throws ChannelException, InterruptedException, TimeoutException {
 		createAnnotatedChannels(object, new HashMap<String,String>(), this.dryrun);
@@ -330,7 +711,7 @@ public class DefaultChannelService implements ChannelService {
 							descriptorList.add(new DummyChannelDescriptor(annotation.type(), MacroResolver.format(annotation.name()[0], mac), annotation.monitor(), annotation.size()));
 						}
 						else{
-							descriptorList.add(new ChannelDescriptor(annotation.type(), MacroResolver.format(annotation.name()[0], mac), annotation.monitor(), annotation.size()));
+							descriptorList.add(conflate(new ChannelDescriptor(annotation.type(), MacroResolver.format(annotation.name()[0], mac), annotation.monitor(), annotation.size()), annotation.conflation()));
 						}
 					}
 					else if (annotation.name().length >0 && field.getType().isAssignableFrom(List.class)) {
@@ -341,7 +722,7 @@ public class DefaultChannelService implements ChannelService {
 								descriptorList.add(new DummyChannelDescriptor(annotation.type(), MacroResolver.format(n, mac), annotation.monitor(), annotation.size()));
 							}
 							else{
-								descriptorList.add(new ChannelDescriptor(annotation.type(), MacroResolver.format(n, mac), annotation.monitor(), annotation.size()));
+								descriptorList.add(conflate(new ChannelDescriptor(annotation.type(), MacroResolver.format(n, mac), annotation.monitor(), annotation.size()), annotation.conflation()));
 							}
 						}
 					} else {
@@ -356,7 +737,7 @@ public class DefaultChannelService implements ChannelService {
 							descriptorList.add(new DummyChannelDescriptor(compositeAnnotation.type(), MacroResolver.format(compositeAnnotation.name(), mac), compositeAnnotation.monitor(), compositeAnnotation.size()));
 						}
 						else{
-							descriptorList.add(new CompositeChannelDescriptor(compositeAnnotation.type(), MacroResolver.format(compositeAnnotation.name(), mac), MacroResolver.format(compositeAnnotation.readback(), mac), compositeAnnotation.monitor(), compositeAnnotation.size()));
+							descriptorList.add(conflate(new CompositeChannelDescriptor(compositeAnnotation.type(), MacroResolver.format(compositeAnnotation.name(), mac), MacroResolver.format(compositeAnnotation.readback(), mac), compositeAnnotation.monitor(), compositeAnnotation.size()), compositeAnnotation.conflation()));
 						}
 					}
 				}
@@ -496,10 +877,32 @@ public class DefaultChannelService implements ChannelService {
 	 */
 	@Override
 	public void destroy() {
-		try {
-			channelFactory.destroyContext();
-		} catch (CAException e) {
-			throw new RuntimeException("Unable to destroy the internal channel factory instance", e);
+		synchronized(this){
+			if(scheduler != null){
+				scheduler.shutdownNow();
+				scheduler = null;
+			}
+			if(dispatcher != null){
+				dispatcher.shutdown();
+				dispatcher = null;
+			}
+		}
+		// Channels are destroyed together with the context
+		pool.clear();
+		multiplexer.clear();
+		if(metrics != null){
+			metrics.unregister();
+		}
+		CAException exception = null;
+		for(JCAChannelFactory factory: channelFactories){
+			try {
+				factory.destroyContext();
+			} catch (CAException e) {
+				exception = e;
+			}
+		}
+		if(exception != null){
+			throw new RuntimeException("Unable to destroy the internal channel factory instance", exception);
 		}
 	}
 	
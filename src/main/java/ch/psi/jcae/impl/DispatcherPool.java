@@ -0,0 +1,87 @@
+package ch.psi.jcae.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of worker threads monitor callbacks are dispatched to. Callbacks are hashed by their
+ * key (the CA channel) onto one of the workers, i.e. the callbacks of a channel are executed
+ * in order while the callbacks of different channels are executed concurrently.
+ */
+class DispatcherPool {
+
+	private static final Logger logger = Logger.getLogger(DispatcherPool.class.getName());
+
+	private final ExecutorService[] workers;
+
+	/**
+	 * Thread of the pool
+	 */
+	static final class Worker extends Thread {
+		private Worker(Runnable r, String name) {
+			super(r, name);
+			setDaemon(true);
+		}
+	}
+
+	/**
+	 * @param threads	Number of worker threads
+	 */
+	DispatcherPool(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be > 0");
+		}
+		workers = new ExecutorService[threads];
+		for (int i = 0; i < threads; i++) {
+			final String name = "jcae-dispatcher-" + i;
+			workers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					return new Worker(r, name);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Execute a callback on the worker of the passed key
+	 * @param key		Key (callbacks with the same key are executed in order)
+	 * @param callback	Callback
+	 */
+	void execute(Object key, Runnable callback) {
+		int h = System.identityHashCode(key);
+		h ^= (h >>> 16);
+		try {
+			workers[(h & 0x7fffffff) % workers.length].execute(callback);
+		} catch (RejectedExecutionException e) {
+			logger.log(Level.FINE, "Dispatcher is shut down - callback dropped");
+		}
+	}
+
+	/**
+	 * @return	Number of worker threads
+	 */
+	int getThreads() {
+		return workers.length;
+	}
+
+	/**
+	 * Stop all workers (pending callbacks are dropped)
+	 */
+	void shutdown() {
+		for (ExecutorService worker : workers) {
+			worker.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return	true if the current thread is a worker of a dispatcher pool
+	 */
+	static boolean isWorker() {
+		return Thread.currentThread() instanceof Worker;
+	}
+}
@@ -0,0 +1,54 @@
+package ch.psi.jcae.impl;
+
+import gov.aps.jca.event.MonitorEvent;
+import gov.aps.jca.event.MonitorListener;
+
+/**
+ * Monitor listener handling its events either directly on the CA event dispatch thread or on
+ * the worker of a dispatcher pool (decoding and listeners of different channels run concurrently,
+ * the events of a channel are handled in order).
+ */
+abstract class DispatchingMonitorListener implements MonitorListener {
+
+	private final DispatcherPool dispatcher;
+	private final Object key;
+
+	/**
+	 * @param dispatcher	Dispatcher pool - null to handle events on the CA event dispatch thread
+	 * @param key			Key the events are ordered by (CA channel)
+	 */
+	DispatchingMonitorListener(DispatcherPool dispatcher, Object key) {
+		this.dispatcher = dispatcher;
+		this.key = key;
+	}
+
+	@Override
+	public final void monitorChanged(final MonitorEvent event) {
+		if (dispatcher != null) {
+			dispatcher.execute(key, new Runnable() {
+				@Override
+				public void run() {
+					dispatched(event);
+				}
+			});
+			return;
+		}
+
+		// Flag the current (CA event dispatch) thread so that blocking calls from within the callback are detected
+		Boolean nested = DefaultChannel.inMonitorCallback.get();
+		DefaultChannel.inMonitorCallback.set(Boolean.TRUE);
+		try {
+			dispatched(event);
+		} finally {
+			if (nested == null) {
+				DefaultChannel.inMonitorCallback.remove();
+			}
+		}
+	}
+
+	/**
+	 * Handle a monitor event
+	 * @param event	Event
+	 */
+	protected abstract void dispatched(MonitorEvent event);
+}
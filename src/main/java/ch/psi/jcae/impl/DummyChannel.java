@@ -9,7 +9,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import ch.psi.jcae.Channel;
+import ch.psi.jcae.Backpressure;
 import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.Flow;
 
 /**
  * Dummy implementation of a channel
@@ -51,39 +54,13 @@ public class DummyChannel<T> implements Channel<T> {
 	}
 
 	@Override
-	public Future<T> getValueAsync() throws IllegalStateException, ChannelException {
+	public ChannelFuture<T> getValueAsync() throws IllegalStateException, ChannelException {
 		return getValueAsync(true);
 	}
 
 	@Override
-	public Future<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
-		return new Future<T>() {
-
-			@Override
-			public boolean cancel(boolean mayInterruptIfRunning) {
-				throw new UnsupportedOperationException();
-			}
-
-			@Override
-			public boolean isCancelled() {
-				return false;
-			}
-
-			@Override
-			public boolean isDone() {
-				return true;
-			}
-
-			@Override
-			public T get() throws InterruptedException, ExecutionException {
-				return value;
-			}
-
-			@Override
-			public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-				return value;
-			}
-		};
+	public ChannelFuture<T> getValueAsync(boolean force) throws IllegalStateException, ChannelException {
+		return new GetMonitoredFuture<T>(value);
 	}
 
 	@Override
@@ -97,39 +74,13 @@ public class DummyChannel<T> implements Channel<T> {
 	}
 
 	@Override
-	public Future<T> setValueAsync(T v) throws ChannelException {
+	public ChannelFuture<T> setValueAsync(T v) throws ChannelException {
 		propertyChangeSupport.firePropertyChange("value", this.value, this.value = v);
-		return new Future<T>() {
-
-			@Override
-			public boolean cancel(boolean mayInterruptIfRunning) {
-				throw new UnsupportedOperationException();
-			}
-
-			@Override
-			public boolean isCancelled() {
-				return false;
-			}
-
-			@Override
-			public boolean isDone() {
-				return true;
-			}
-
-			@Override
-			public T get() throws InterruptedException, ExecutionException {
-				return value;
-			}
-
-			@Override
-			public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-				return value;
-			}
-		};
+		return new GetMonitoredFuture<T>(value);
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue) throws ChannelException {
 		// Default comparator checking for equality
 		Comparator<T> comparator = new Comparator<T>() {
 			@Override
@@ -144,7 +95,7 @@ public class DummyChannel<T> implements Channel<T> {
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException {
+	public ChannelFuture<T> waitForValueAsync(T rvalue, long waitRetryPeriod) throws ChannelException {
 		// Default comparator checking for equality
 		Comparator<T> comparator = new Comparator<T>() {
 			@Override
@@ -159,81 +110,34 @@ public class DummyChannel<T> implements Channel<T> {
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(final T rvalue, final Comparator<T> comparator) throws ChannelException {
-		return new Future<T>() {
-
-			@Override
-			public boolean cancel(boolean mayInterruptIfRunning) {
-				throw new UnsupportedOperationException();
-			}
-
-			@Override
-			public boolean isCancelled() {
-				return false;
-			}
-
-			@Override
-			public boolean isDone() {
-				return true;
-			}
+	public ChannelFuture<T> waitForValueAsync(final T rvalue, final Comparator<T> comparator) throws ChannelException {
+		CallbackFuture<T> future = new CallbackFuture<T>() {
 
 			@Override
 			public T get() throws InterruptedException, ExecutionException {
-				if (value != null && comparator.compare(value, rvalue) == 0) {
-					return rvalue;
+				if (!isDone()) {
+					throw new IllegalStateException();
 				}
-				throw new IllegalStateException();
+				return super.get();
 			}
 
 			@Override
 			public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-				if (value != null && comparator.compare(value, rvalue) == 0) {
-					return rvalue;
-				}
-				else {
+				if (!isDone()) {
 					throw new TimeoutException("Value not reached in time");
 				}
+				return super.get(timeout, unit);
 			}
 		};
+		if (value != null && comparator.compare(value, rvalue) == 0) {
+			future.complete(rvalue);
+		}
+		return future;
 	}
 
 	@Override
-	public Future<T> waitForValueAsync(final T rvalue, final Comparator<T> comparator, long waitRetryPeriod) throws ChannelException {
-		return new Future<T>() {
-
-			@Override
-			public boolean cancel(boolean mayInterruptIfRunning) {
-				throw new UnsupportedOperationException();
-			}
-
-			@Override
-			public boolean isCancelled() {
-				return false;
-			}
-
-			@Override
-			public boolean isDone() {
-				return true;
-			}
-
-			@Override
-			public T get() throws InterruptedException, ExecutionException {
-				if (value != null && comparator.compare(value, rvalue) == 0) {
-					return rvalue;
-				}
-				throw new IllegalStateException();
-			}
-
-			@Override
-			public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-				if (value != null && comparator.compare(value, rvalue) == 0) {
-					return rvalue;
-				}
-				else {
-					throw new TimeoutException("Value not reached in time");
-				}
-			}
-		};
+	public ChannelFuture<T> waitForValueAsync(final T rvalue, final Comparator<T> comparator, long waitRetryPeriod) throws ChannelException {
+		return waitForValueAsync(rvalue, comparator);
 	}
 
 	@Override
@@ -336,6 +240,11 @@ public class DummyChannel<T> implements Channel<T> {
 		propertyChangeSupport.removePropertyChangeListener(l);
 	}
 
+	@Override
+	public void removePropertyChangeListener(String name, PropertyChangeListener l) {
+		propertyChangeSupport.removePropertyChangeListener(name, l);
+	}
+
 	@Override
 	public Class<?> getFieldType() {
 		return this.value != null ? this.value.getClass() : Object.class;
@@ -397,4 +306,9 @@ public class DummyChannel<T> implements Channel<T> {
 			throw new RuntimeException(e);
 		}
 	}
+
+	@Override
+	public Flow.Publisher<T> getPublisher(Backpressure backpressure, int capacity) {
+		return new ChannelPublisher<T>(this, backpressure, capacity);
+	}
 }
@@ -1,114 +1,96 @@
 package ch.psi.jcae.impl;
 
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
-import ch.psi.jcae.impl.handler.Handlers;
+import ch.psi.jcae.ChannelException;
+import ch.psi.jcae.impl.handler.Handler;
 
 import gov.aps.jca.CAStatus;
-import gov.aps.jca.CAStatusException;
 import gov.aps.jca.event.GetEvent;
 import gov.aps.jca.event.GetListener;
 
 /**
  * Utility class for asynchronous get operation on a Channel Access channel
  */
-public class GetFuture<T> implements GetListener, Future<T>
+public class GetFuture<T> extends CallbackFuture<T> implements GetListener
 {
 	
 	
 	private static final Logger logger = Logger.getLogger(GetFuture.class.getName());
 	
-	/**
-	 * Channel DBR value
-	 */
-    private T value;
     private Class<T> type;
-    CAStatus status;
-    Exception exception;
+    private final Handler<?> handler;
+    private final ChannelMetrics metrics;
+    private final long start;
     
-    private final CountDownLatch latch = new CountDownLatch(1);
-    
-    public GetFuture(Class<T> type){
+    /**
+     * @param type		Type of the value
+     * @param handler	Handler decoding the value
+     * @param metrics	Metrics to record the latency and decode time to (null if not recorded)
+     */
+    public GetFuture(Class<T> type, Handler<?> handler, ChannelMetrics metrics){
     	this.type = type;
+    	this.handler = handler;
+    	this.metrics = metrics;
+    	this.start = metrics != null ? System.nanoTime() : 0;
     }
     
     @SuppressWarnings("unchecked")
 	@Override
         public void getCompleted(GetEvent ev) {
+            T value;
+            long decodeStart = metrics != null ? System.nanoTime() : 0;
             try{
-                status = ev.getStatus();
-                value = (T) Handlers.HANDLERS.get(type).getValue(ev.getDBR());
-                if (ev.getStatus() != CAStatus.NORMAL){		    
-                    logger.warning("Get failed with status: "+ev.getStatus());
-                }
+                value = (T) handler.getValue(ev.getDBR());
             } catch(Exception ex){
-                exception = ex;
-            } finally{
-                latch.countDown();
+                if (metrics != null){
+                    metrics.getFailed();
+                }
+                fail(new ChannelException("Error occured while getting value: " + ex.getMessage(), ex));
+                return;
             }
-	}
-    
-
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#cancel(boolean)
-	 */
-	@Override
-	public boolean cancel(boolean mayInterruptIfRunning) {
-		throw new UnsupportedOperationException();
-	}
-
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#isCancelled()
-	 */
-	@Override
-	public boolean isCancelled() {
-		throw new UnsupportedOperationException();
-	}
-
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#isDone()
-	 */
-	@Override
-	public boolean isDone() {
-		return latch.getCount()==0;
+            if (ev.getStatus() != CAStatus.NORMAL){		    
+                logger.warning("Get failed with status: "+ev.getStatus());
+                if (metrics != null){
+                    metrics.getFailed();
+                }
+                fail(new ChannelException(ev.getStatus().getMessage()));
+                return;
+            }
+            if (metrics != null){
+                long end = System.nanoTime();
+                metrics.decode(type, end - decodeStart);
+                metrics.get(end - start);
+            }
+            complete(value);
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Failures are reported as RuntimeException (compatibility)
 	 * @see java.util.concurrent.Future#get()
 	 */
 	@Override
 	public T get() throws InterruptedException, ExecutionException {
-                DefaultChannel.assertNotInMonitorCallback();
-		latch.await();
-                if (exception != null){
-                    throw new RuntimeException("Error occured while getting value: " + exception.getMessage());
-                }
-                if (status != CAStatus.NORMAL){
-                    throw new RuntimeException(status.getMessage());
-                }
-		return value;
+		try {
+			return super.get();
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+		}
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Failures are reported as RuntimeException (compatibility)
 	 * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
 	 */
 	@Override
 	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-		DefaultChannel.assertNotInMonitorCallback();
-		if(!latch.await(timeout, unit)){
-                    throw new TimeoutException("Timeout ["+timeout+"] occured while getting value"); // from which channel ?
-	   	}
-                if (exception != null){
-                    throw new RuntimeException("Error occured while getting value: " + exception.getMessage());
-                }
-                if (status != CAStatus.NORMAL){
-                    throw new RuntimeException(status.getMessage());
-                }                
-		return value;
+		try {
+			return super.get(timeout, unit);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+		}
 	}
 }
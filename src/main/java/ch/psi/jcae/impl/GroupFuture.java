@@ -0,0 +1,135 @@
+package ch.psi.jcae.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.psi.jcae.Channel;
+import ch.psi.jcae.ChannelFuture;
+import ch.psi.jcae.ChannelGroupException;
+
+/**
+ * Future combining the futures of an operation on a group of channels. The
+ * future is done once the operation has completed for all channels of the
+ * group. If the operation failed for some of the channels the future fails
+ * with a {@link ChannelGroupException}, holding the failures per channel.
+ * Cancelling the future cancels the operations of all channels.
+ */
+public class GroupFuture extends CallbackFuture<List<Object>> {
+
+	private final List<Channel<?>> channels = new ArrayList<Channel<?>>();
+	private final List<ChannelFuture<?>> futures = new ArrayList<ChannelFuture<?>>();
+	private final Map<Channel<?>, Throwable> failures = new LinkedHashMap<Channel<?>, Throwable>();
+	private Object[] values;
+	private AtomicInteger remaining;
+
+	/**
+	 * Add the future of the operation on the given channel
+	 * @param channel	Channel
+	 * @param future	Future of the operation
+	 */
+	void add(Channel<?> channel, ChannelFuture<?> future) {
+		channels.add(channel);
+		futures.add(future);
+	}
+
+	/**
+	 * Add a channel the operation could not even be issued for
+	 * @param channel	Channel
+	 * @param cause		Cause of the failure
+	 */
+	void fail(Channel<?> channel, Throwable cause) {
+		channels.add(channel);
+		futures.add(null);
+		failures.put(channel, cause);
+	}
+
+	/**
+	 * Start tracking the added futures - to be called once all channels are added
+	 * @return	This future
+	 */
+	GroupFuture start() {
+		values = new Object[futures.size()];
+		remaining = new AtomicInteger(futures.size() + 1);
+		for (int i = 0; i < futures.size(); i++) {
+			ChannelFuture<?> f = futures.get(i);
+			if (f == null) {
+				memberDone();
+				continue;
+			}
+			final int index = i;
+			f.addCallback(new Callback<Object>() {
+				@Override
+				public void completed(Object value) {
+					values[index] = value;
+					memberDone();
+				}
+
+				@Override
+				public void failed(Throwable cause) {
+					synchronized (failures) {
+						failures.put(channels.get(index), cause);
+					}
+					memberDone();
+				}
+			});
+		}
+		memberDone();
+		return this;
+	}
+
+	private void memberDone() {
+		if (remaining.decrementAndGet() != 0) {
+			return;
+		}
+		List<Object> result = new ArrayList<Object>(Arrays.asList(values));
+		Map<Channel<?>, Throwable> errors;
+		synchronized (failures) {
+			errors = new LinkedHashMap<Channel<?>, Throwable>();
+			// Report the failures in the order of the channels
+			for (Channel<?> channel : channels) {
+				if (failures.containsKey(channel)) {
+					errors.put(channel, failures.get(channel));
+				}
+			}
+		}
+		if (!errors.isEmpty()) {
+			fail(new ChannelGroupException(errors, result));
+		} else {
+			complete(result);
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		for (ChannelFuture<?> f : futures) {
+			if (f != null) {
+				f.cancel(mayInterruptIfRunning);
+			}
+		}
+		return cancelled;
+	}
+
+	@Override
+	public List<Object> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		try {
+			return super.get(timeout, unit);
+		} catch (TimeoutException e) {
+			List<String> pending = new ArrayList<String>();
+			for (int i = 0; i < futures.size(); i++) {
+				ChannelFuture<?> f = futures.get(i);
+				if (f != null && !f.isDone()) {
+					pending.add(channels.get(i).getName());
+				}
+			}
+			throw new TimeoutException("Timeout [" + timeout + " " + unit + "] occured while waiting for channel(s): " + pending);
+		}
+	}
+}
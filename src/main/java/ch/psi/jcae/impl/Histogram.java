@@ -0,0 +1,115 @@
+package ch.psi.jcae.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of (time) values. Values are recorded into logarithmic buckets with
+ * 8 sub-buckets per power of two, i.e. percentiles are accurate to about 12.5%. Count, sum
+ * (mean) and maximum are exact.
+ */
+public class Histogram {
+
+	private static final int SUB_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray((64 - SUB_BITS) * SUB_BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record a value
+	 * @param value	Value to record (negative values are recorded as 0)
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		buckets.incrementAndGet(index(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		long m;
+		while (value > (m = max.get()) && !max.compareAndSet(m, value)) {
+			// retry
+		}
+	}
+
+	/**
+	 * @return	Number of recorded values
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * @return	Mean of the recorded values (0 if no value was recorded)
+	 */
+	public double getMean() {
+		long c = count.get();
+		if (c == 0) {
+			return 0;
+		}
+		return (double) sum.get() / c;
+	}
+
+	/**
+	 * @return	Maximum of the recorded values
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Get the value below or equal to which the specified percentage of the recorded values are
+	 * @param percentile	Percentile (0-100)
+	 * @return	Upper bound of the bucket holding the percentile (0 if no value was recorded)
+	 */
+	public long getPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			total += buckets.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+		long cumulated = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			cumulated += buckets.get(i);
+			if (cumulated >= target) {
+				return Math.min(upperBound(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Reset the histogram. Values recorded concurrently might be lost.
+	 */
+	public void reset() {
+		for (int i = 0; i < buckets.length(); i++) {
+			buckets.set(i, 0);
+		}
+		count.set(0);
+		sum.set(0);
+		max.set(0);
+	}
+
+	static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+	}
+
+	static long upperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
@@ -1,8 +1,10 @@
 package ch.psi.jcae.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -65,44 +67,11 @@ public class JCAChannelFactory {
 	 * @throws InterruptedException 	Interrupted while creating channel
 	 */
 	public Channel createChannel(String channelName) throws CAException, InterruptedException{
-		
-		// If there is no active context, recreate a context
-		if(context==null){
-			context = JCAContextFactory.getInstance().createContext();
-		}
-		DefaultChannel.assertNotInMonitorCallback();
-		int cnt = 0;
-		while (cnt <= properties.getConnectionRetries()) {
-			cnt++;
-			try{
-				CountDownLatch latch = new CountDownLatch(1);
-				
-				Channel channel = context.createChannel(channelName, new ConnectListener(latch));                                
-				context.flushIO();
-				
-				boolean t;
-				t = latch.await(properties.getChannelTimeout(), TimeUnit.MILLISECONDS);
-				
-				if(!t){
-					throw new CAException("Timout ["+properties.getChannelTimeout()+"] occured while creating channel "+channelName);
-				}
-				
-				return(channel);
-			}
-			catch(InterruptedException e){
-				throw e;
-			}
-			catch(Exception e){
-				if(cnt<=properties.getConnectionRetries()){
-					logger.log(Level.WARNING, "Unable to connect to channel "+channelName+" - will retry");
-				}
-				else{
-					throw new CAException("Unable to connect to channel "+channelName, e);
-				}
-			}
+		ConnectionResult result = connectChannels(Collections.singletonList(channelName), null);
+		if(!result.isComplete()){
+			throw new CAException("Unable to connect to channel "+channelName+" - Timout ["+properties.getChannelTimeout()+"]");
 		}
-		
-		throw new CAException("Something went wrong while creating the channel "+channelName+" - Theoretically this exception should never occure");
+		return(result.getChannels().get(0));
 	}
 	
 	/**
@@ -118,52 +87,190 @@ public class JCAChannelFactory {
 	 */
 	public List<Channel> createChannels(List<String> channelNames) throws CAException, InterruptedException{
 		
+		// Return an empty Channel List if null or an empty name List is passed to this function 
+		if(channelNames==null || channelNames.size()==0){
+			return(new ArrayList<Channel>());
+		}
+		
+		return(connectAll(channelNames).getChannels());
+	}
+	
+	/**
+	 * Connect a number of channels. Unlike <code>connectChannels()</code> this function fails 
+	 * (and destroys the already connected channels) if not all channels could be connected.
+	 * @param channelNames	Names of channels to connect
+	 * @return	Result of the connection (all channels connected)
+	 * 
+	 * @throws CAException 				Unable to create channel
+	 * @throws InterruptedException 	Interrupted while creating channel 
+	 */
+	ConnectionResult connectAll(List<String> channelNames) throws CAException, InterruptedException{
+		ConnectionResult result = connectChannels(channelNames, null);
+		
+		// Check whether all channels got connected
+		if(!result.isComplete()){
+			// Cleanup all established channels
+			for(Channel channel: result.getChannels()){
+				if(channel!=null){
+					channel.destroy();
+				}
+			}
+			
+			StringBuffer b = new StringBuffer();
+			for(String name: result.getFailed()){
+				b.append(name);
+				b.append(":");
+			}
+			throw new CAException("Not all Channels are connected. Channels not connected: "+b.toString());
+		}
+		
+		return(result);
+	}
+	
+	/**
+	 * Connect a number of channels. The connection requests are pipelined, i.e. at most
+	 * <code>connectionWaveSize</code> requests are in flight and the next request is issued
+	 * as soon as a channel got connected. All requests of a round share one deadline (the
+	 * channel timeout). Channels that are not connected by then are destroyed and retried
+	 * (<code>connectionRetries</code>) - channels that are already connected are kept.
+	 * 
+	 * Unlike <code>createChannels()</code> this function does not fail if not all 
+	 * channels could be connected. The result holds the connected channels and the 
+	 * names of the channels that failed.
+	 * 
+	 * @param channelNames	Names of channels to connect
+	 * @param listener		Listener to get notified about the progress (can be null)
+	 * @return	Result of the connection
+	 * 
+	 * @throws CAException 				Unable to create channel
+	 * @throws InterruptedException 	Interrupted while creating channel
+	 */
+	public ConnectionResult connectChannels(List<String> channelNames, ConnectionProgressListener listener) throws CAException, InterruptedException{
+		
 		// If there is no active context, recreate a context
 		if(context==null){
 			context = JCAContextFactory.getInstance().createContext();
 		}
-                DefaultChannel.assertNotInMonitorCallback();
+		DefaultChannel.assertNotInMonitorCallback();
 		
-		List<Channel> channels = new ArrayList<Channel>();
+		int total = channelNames.size();
+		Channel[] channels = new Channel[total];
+		long[] connectionTimes = new long[total];
+		int connected = 0;
 		
-		// Return an empty Channel List if null or an empty name List is passed to this function 
-		if(channelNames==null || channelNames.size()==0){
-			return(channels);
+		// Indexes of the channels to connect in the current round
+		List<Integer> pending = new ArrayList<Integer>(total);
+		for(int i=0;i<total;i++){
+			pending.add(i);
 		}
-
-		// Connect channels here
-		CountDownLatch latch = new CountDownLatch(channelNames.size());
 		
-		// Create channels
-		
-		for(String name: channelNames){
-			channels.add(context.createChannel(name, new ConnectListener(latch)));
+		int waveSize = properties.getConnectionWaveSize();
+		if(waveSize<=0){
+			waveSize = Math.max(total, 1);
 		}
-		context.flushIO();
-
-		// Wait until channels are connected
-		boolean t;
-		t = latch.await(properties.getChannelTimeout(), TimeUnit.MILLISECONDS);
 		
-		// Check whether a timeout has occured
-		if(!t){
-			// Timeout occurred
+		int cnt = 0;
+		while (!pending.isEmpty() && cnt <= properties.getConnectionRetries()) {
+			if(cnt>0){
+				logger.log(Level.WARNING, "Unable to connect to "+pending.size()+" channel(s) - will retry");
+			}
+			cnt++;
 			
-			// Cleanup all established channels
-			StringBuffer b = new StringBuffer();
-			for(Channel channel: channels){
-				if(! channel.getConnectionState().equals(ConnectionState.CONNECTED)){
-					b.append(channel.getName());
-					b.append(":");
+			int n = pending.size();
+			CountDownLatch latch = new CountDownLatch(n);
+			Semaphore window = new Semaphore(waveSize);
+			Channel[] created = new Channel[n];
+			ConnectListener[] listeners = new ConnectListener[n];
+			long[] starts = new long[n];
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getChannelTimeout());
+			try{
+				for(int i=0;i<n;i++){
+					// Wait for a free slot of the window (flush the issued requests first)
+					if(!window.tryAcquire()){
+						context.flushIO();
+						if(!window.tryAcquire(deadline-System.nanoTime(), TimeUnit.NANOSECONDS)){
+							break;
+						}
+					}
+					listeners[i] = new ConnectListener(latch, window);
+					starts[i] = System.nanoTime();
+					created[i] = context.createChannel(channelNames.get(pending.get(i)), listeners[i]);
+				}
+				context.flushIO();
+				
+				// Wait until channels are connected
+				latch.await(deadline-System.nanoTime(), TimeUnit.NANOSECONDS);
+			}
+			catch(InterruptedException e){
+				destroy(created);
+				destroy(channels);
+				throw e;
+			}
+			catch(CAException e){
+				destroy(created);
+				destroy(channels);
+				throw e;
+			}
+			
+			// Keep connected channels, destroy the others
+			List<Integer> failed = new ArrayList<Integer>();
+			for(int i=0;i<n;i++){
+				if(created[i]!=null && created[i].getConnectionState().equals(ConnectionState.CONNECTED)){
+					channels[pending.get(i)] = created[i];
+					// The connection state might be updated before the listener is notified
+					long t = listeners[i].isConnected() ? listeners[i].getConnectTime() : System.nanoTime();
+					connectionTimes[pending.get(i)] = t-starts[i];
+					connected++;
+					try{
+						created[i].removeConnectionListener(listeners[i]);
+					}
+					catch(CAException e){
+						logger.log(Level.WARNING, "Unable to remove connection listener of channel "+created[i].getName(), e);
+					}
+				}
+				else{
+					// Destroying the channel also drops its listener
+					if(created[i]!=null){
+						created[i].destroy();
+					}
+					failed.add(pending.get(i));
 				}
-				// Destroy not connected channels
-				channel.destroy();
 			}
 			
-			throw new CAException("Not all Channels are connected. Channels not connected: "+b.toString());
+			if(listener!=null){
+				listener.connectionProgress(connected, total);
+			}
+			pending = failed;
 		}
 		
-		return(channels);
+		if(!pending.isEmpty()){
+			StringBuffer b = new StringBuffer();
+			for(Integer i: pending){
+				b.append(channelNames.get(i));
+				b.append(":");
+			}
+			logger.log(Level.WARNING, "Unable to connect to channel(s): "+b.toString());
+		}
+		
+		return new ConnectionResult(channelNames, channels, connectionTimes);
+	}
+	
+	/**
+	 * Destroy the passed channels (ignoring null entries)
+	 * @param channels	Channels to destroy
+	 */
+	private void destroy(Channel[] channels){
+		for(int i=0;i<channels.length;i++){
+			if(channels[i]!=null){
+				try{
+					channels[i].destroy();
+				}
+				catch(Exception e){
+					logger.log(Level.WARNING, "Unable to destroy channel "+channels[i].getName(), e);
+				}
+				channels[i] = null;
+			}
+		}
 	}
 	
 	/**
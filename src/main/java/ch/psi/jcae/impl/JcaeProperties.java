@@ -36,6 +36,17 @@ public class JcaeProperties {
 	private boolean useShellVariables = false; // default values
 	private boolean addLocalBroadcastInterfaces = false;
 	private boolean queuedEventDispatcher = true;
+	/**
+	 * Number of worker threads the monitor callbacks of a ChannelService are dispatched to
+	 * (hashed by channel, i.e. the callbacks of a channel are executed in order).
+	 * 0 - callbacks are executed on the CA event dispatch thread
+	 */
+	private int dispatcherThreads = 0;
+	/**
+	 * Number of CA contexts of a ChannelService. The channels of the service are sharded onto the
+	 * contexts by the hash of their name (each context has its own TCP circuits and I/O threads)
+	 */
+	private int contexts = 1;
 	private String maxArrayBytes = null;
         private String maxSendArrayBytes = null;
 	private String serverPort = null;
@@ -74,13 +85,23 @@ public class JcaeProperties {
 	 */
 	private int retries = 0;
 	
+	/**
+	 * Record metrics (latencies, monitor rates, ...) for the channels of a ChannelService
+	 */
+	private boolean metrics = false;
+	
 	/**
 	 * Retries for opening/creating a channel (if channel was not connected in time (connectionTimeout) )
-	 * Retries does only apply while creating one channel. While creating multiple channels at once retries
-	 * is not used
+	 * While creating multiple channels at once only the channels that were not connected are retried
 	 */
 	private int connectionRetries = 0;
 	
+	/**
+	 * Maximum number of connection requests in flight while creating multiple channels
+	 * (0 - all channels at once)
+	 */
+	private int connectionWaveSize = 1000;
+	
 	
 	/**
 	 * Overwrite default construtor with private constructor
@@ -177,6 +198,24 @@ public class JcaeProperties {
 				queuedEventDispatcher = false;
 			}
 		}
+		if (bundle.keySet().contains(prefix + "dispatcherThreads")) {
+			String s = bundle.getProperty(prefix + "dispatcherThreads");
+			try{
+				dispatcherThreads = Integer.parseInt(s);
+			}
+			catch(NumberFormatException e){
+				logger.log(Level.WARNING, "Property dispatcherThreads can not be parsed to an int", e);
+			}
+		}
+		if (bundle.keySet().contains(prefix + "contexts")) {
+			String s = bundle.getProperty(prefix + "contexts");
+			try{
+				contexts = Integer.parseInt(s);
+			}
+			catch(NumberFormatException e){
+				logger.log(Level.WARNING, "Property contexts can not be parsed to an int", e);
+			}
+		}
 		if (bundle.keySet().contains(prefix + "maxArrayBytes")) {
 			maxArrayBytes = bundle.getProperty(prefix + "maxArrayBytes");
 		}
@@ -214,6 +253,17 @@ public class JcaeProperties {
 			}
 		}
 		
+		if(bundle.keySet().contains(prefix+"waveSize")){
+			
+			String s = bundle.getProperty(prefix+"waveSize");
+			try{
+				connectionWaveSize = Integer.parseInt(s);
+			}
+			catch(NumberFormatException e){
+				logger.log(Level.WARNING, "Property waveSize can not be parsed to an int", e);
+			}
+		}
+		
 		
 		
 		/**
@@ -270,6 +320,11 @@ public class JcaeProperties {
 			}
 		}
 		
+		key = prefix+"metrics";
+		if(bundle.keySet().contains(key)){
+			metrics = bundle.getProperty(key).equalsIgnoreCase("true");
+		}
+		
 		
 		// If use shell variables is set to true overwrite properties with shell variables if they are set
 		if(useShellVariables){
@@ -343,6 +398,22 @@ public class JcaeProperties {
 		this.queuedEventDispatcher = queuedEventDispatcher;
 	}
 
+	public int getDispatcherThreads() {
+		return dispatcherThreads;
+	}
+
+	public void setDispatcherThreads(int dispatcherThreads) {
+		this.dispatcherThreads = dispatcherThreads;
+	}
+
+	public int getContexts() {
+		return contexts;
+	}
+
+	public void setContexts(int contexts) {
+		this.contexts = contexts;
+	}
+
 	public String getMaxArrayBytes() {
 		return maxArrayBytes;
 	}
@@ -391,6 +462,14 @@ public class JcaeProperties {
 		this.retries = retries;
 	}
 
+	public boolean isMetrics() {
+		return metrics;
+	}
+
+	public void setMetrics(boolean metrics) {
+		this.metrics = metrics;
+	}
+
 	public String getServerPort() {
 		return serverPort;
 	}
@@ -407,6 +486,14 @@ public class JcaeProperties {
 		this.connectionRetries = connectionRetries;
 	}
 
+	public int getConnectionWaveSize() {
+		return connectionWaveSize;
+	}
+
+	public void setConnectionWaveSize(int connectionWaveSize) {
+		this.connectionWaveSize = connectionWaveSize;
+	}
+
 	public Long getWaitRetryPeriod() {
 		return waitRetryPeriod;
 	}
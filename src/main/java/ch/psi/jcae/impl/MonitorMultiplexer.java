@@ -0,0 +1,181 @@
+package ch.psi.jcae.impl;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatus;
+import gov.aps.jca.Channel;
+import gov.aps.jca.Channel.ConnectionState;
+import gov.aps.jca.Monitor;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.event.MonitorEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import ch.psi.jcae.impl.handler.Handler;
+
+/**
+ * Shares monitors between DefaultChannel objects. Channels monitoring the same CA channel with 
+ * the same type and element count share one monitor. The value of each event is decoded once
+ * and passed to all channels subscribed to the monitor, i.e. the channels hand out the same
+ * object. Therefore only immutable value types are shared (see {@link #isShareable(Class)}).
+ */
+class MonitorMultiplexer {
+	
+	private static final Logger logger = Logger.getLogger(MonitorMultiplexer.class.getName());
+
+	private final Map<Key, Subscription> subscriptions = new HashMap<Key, Subscription>();
+	
+	/**
+	 * Key of a subscription. The CA channel is compared by identity (channels are 
+	 * shared by name via the ChannelPool), the handler (the one the channels are bound to,
+	 * also compared by identity) determines the DBR type and the decoding.
+	 */
+	private static final class Key {
+		private final Channel channel;
+		private final Class<?> type;
+		private final Handler<?> handler;
+		private final int count;
+		
+		Key(Channel channel, Class<?> type, Handler<?> handler, int count){
+			this.channel = channel;
+			this.type = type;
+			this.handler = handler;
+			this.count = count;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Key)){
+				return false;
+			}
+			Key k = (Key) o;
+			return channel==k.channel && type.equals(k.type) && handler==k.handler && count==k.count;
+		}
+		
+		@Override
+		public int hashCode() {
+			return ((System.identityHashCode(channel)*31 + type.hashCode())*31 + System.identityHashCode(handler))*31 + count;
+		}
+	}
+	
+	/**
+	 * Monitor shared by a number of channels
+	 */
+	final class Subscription extends DispatchingMonitorListener {
+		private final Key key;
+		private final Handler<?> handler;
+		private final List<DefaultChannel<Object>> channels = new CopyOnWriteArrayList<DefaultChannel<Object>>();
+		private Monitor monitor;
+		/**
+		 * Metrics of the CA channel (null if disabled) - events are recorded once for all subscribed channels
+		 */
+		private ChannelMetrics metrics;
+		
+		private Subscription(Key key, DispatcherPool dispatcher){
+			super(dispatcher, key.channel);
+			this.key = key;
+			this.handler = key.handler;
+		}
+		
+		@Override
+		protected void dispatched(MonitorEvent event) {
+			if (event.getStatus() == CAStatus.NORMAL) {
+				ChannelMetrics m = metrics;
+				long start = m != null ? System.nanoTime() : 0;
+				DBR dbr = event.getDBR();
+				for (DefaultChannel<Object> c : channels) {
+					c.firePrimitiveListeners(dbr);
+				}
+				Object v;
+				try {
+					v = handler.getValue(dbr);
+				} catch (Exception e) {
+					logger.log(Level.WARNING, "Exception occured while calling callback", e);
+					return;
+				}
+				long decoded = m != null ? System.nanoTime() : 0;
+				for (DefaultChannel<Object> c : channels) {
+					try {
+						c.update(v);
+					} catch (Exception e) {
+						logger.log(Level.WARNING, "Exception occured while calling callback", e);
+					}
+				}
+				if (m != null) {
+					m.monitorEvent(key.type, decoded - start, System.nanoTime() - decoded);
+				}
+			} else {
+				if (!((Channel) event.getSource()).getConnectionState().equals(ConnectionState.CLOSED)) {
+					if (event.getStatus() != null) {
+						logger.log(Level.WARNING, "Monitor fired but CAStatus is {0} - Channl: {1}", new Object[] { event.getStatus(), event.getSource() });
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Get whether values of the given type can be passed to several channels. Arrays, buffers and
+	 * the complex types (e.g. <code>DoubleTimestamp</code>) are mutable and need to be decoded per
+	 * channel.
+	 * @param type	Type of the channel
+	 * @return	true if the type is immutable (boxed primitives and String)
+	 */
+	static boolean isShareable(Class<?> type) {
+		return type == String.class || type == Double.class || type == Float.class || type == Long.class
+				|| type == Integer.class || type == Short.class || type == Byte.class || type == Boolean.class;
+	}
+
+	/**
+	 * Subscribe the channel to the monitor of its CA channel, type and element count. The monitor 
+	 * is created if there is no subscription yet.
+	 * @param channel	Channel to subscribe
+	 * @param ca		CA channel of the channel
+	 * @param type		Type of the channel
+	 * @param handler	Handler the channel is bound to
+	 * @param count		Element count of the channel
+	 * @return	Subscription (needed to unsubscribe)
+	 * @throws CAException	Unable to create monitor
+	 */
+	@SuppressWarnings("unchecked")
+	synchronized Subscription subscribe(DefaultChannel<?> channel, Channel ca, Class<?> type, Handler<?> handler, int count) throws CAException {
+		Key key = new Key(ca, type, handler, count);
+		Subscription s = subscriptions.get(key);
+		if (s == null) {
+			s = new Subscription(key, channel.getDispatcher());
+			s.metrics = channel.getMetrics();
+			s.monitor = ca.addMonitor(s.handler.getDBRType(), count, Monitor.VALUE, s);
+			subscriptions.put(key, s);
+		}
+		s.channels.add((DefaultChannel<Object>) channel);
+		return s;
+	}
+	
+	/**
+	 * Unsubscribe the channel. The monitor is cleared when the last channel is unsubscribed.
+	 * @param subscription	Subscription returned by <code>subscribe()</code>
+	 * @param channel		Channel to unsubscribe
+	 * @return	true if the monitor was cleared (i.e. the request need to be flushed)
+	 * @throws CAException	Unable to clear monitor
+	 */
+	synchronized boolean unsubscribe(Subscription subscription, DefaultChannel<?> channel) throws CAException {
+		subscription.channels.remove(channel);
+		if (subscription.channels.isEmpty() && subscriptions.get(subscription.key) == subscription) {
+			subscriptions.remove(subscription.key);
+			subscription.monitor.clear();
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Forget all subscriptions (used if the context was destroyed)
+	 */
+	synchronized void clear() {
+		subscriptions.clear();
+	}
+}
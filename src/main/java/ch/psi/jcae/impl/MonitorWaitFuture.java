@@ -0,0 +1,95 @@
+package ch.psi.jcae.impl;
+
+import java.util.Comparator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Future to wait for a channel to get to a specific value. Other than the
+ * {@link WaitFuture} this future does not create a monitor on its own, it is
+ * registered as a lightweight predicate on the subscription shared by all
+ * waits (and the value monitor) of a {@link DefaultChannel}. Cancelling the 
+ * future deregisters it (and removes the wait monitor if it was the last wait).
+ */
+public class MonitorWaitFuture<E> extends CallbackFuture<E> {
+
+	private static final Logger logger = Logger.getLogger(MonitorWaitFuture.class.getName());
+
+	private final DefaultChannel<E> channel;
+
+	/**
+	 * Value to wait for
+	 */
+	private final E waitValue;
+
+	/**
+	 * Comparator that defines when condition to wait for is met. (Comparator
+	 * need to return 0 if condition is met)
+	 */
+	private final Comparator<E> comparator;
+
+	/**
+	 * Constructor
+	 * @param channel		Channel to wait for
+	 * @param value			Value to wait for
+	 * @param comparator	Comparator that defines when condition to wait for is met.
+	 * 						The first argument of the comparator is the value of the channel, the second the expected value.
+	 * 						The Comparator need to return 0 if condition is met.
+	 */
+	public MonitorWaitFuture(DefaultChannel<E> channel, E value, Comparator<E> comparator) {
+		this.channel = channel;
+		this.waitValue = value;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Check whether the passed channel value meets the condition to wait for.
+	 * If so the future is completed.
+	 * @param v	Current value of the channel
+	 * @return	True if the condition is met (the future is done)
+	 */
+	boolean check(E v) {
+		if (isDone()) {
+			return true;
+		}
+		try {
+			if (v != null && comparator.compare(v, waitValue) == 0) {
+				complete(v);
+				return true;
+			}
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Something went wrong while waiting for a channel to get to the specific value: " + waitValue, e);
+		}
+		return false;
+	}
+
+	@Override
+	protected void done() {
+		channel.removeWaiter(this);
+	}
+
+	@Override
+	public E get() throws InterruptedException, ExecutionException {
+		try {
+			return super.get();
+		} finally {
+			// If interrupted we also have to deregister, therefore this is in a finally clause
+			channel.removeWaiter(this);
+		}
+	}
+
+	@Override
+	public E get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		try {
+			return super.get(timeout, unit);
+		} catch (TimeoutException e) {
+			throw new TimeoutException("Timeout occured before value was reaching the specified value");
+		} finally {
+			// If interrupted or timed out we also have to deregister, therefore this is in a finally clause
+			channel.removeWaiter(this);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package ch.psi.jcae.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics of a channel service. Holds the metrics of the channels of the service and aggregates
+ * them. The decode time is additionally kept per handler type.
+ * 
+ * The service and its channels are registered as MBeans in the platform MBean server:
+ * <code>ch.psi.jcae:type=ChannelService,id=&lt;id&gt;</code> and
+ * <code>ch.psi.jcae:type=Channel,service=&lt;id&gt;,name=&lt;channel&gt;</code>
+ */
+public class ServiceMetrics extends ChannelMetrics implements ServiceMetricsMBean {
+
+	private static final Logger logger = Logger.getLogger(ServiceMetrics.class.getName());
+	private static final AtomicInteger ids = new AtomicInteger();
+
+	private final String id;
+	private final Map<String, ChannelMetrics> channels = new ConcurrentHashMap<String, ChannelMetrics>();
+	private final Map<Class<?>, Histogram> decodeTimeByType = new ConcurrentHashMap<Class<?>, Histogram>();
+	private boolean registered = false;
+
+	public ServiceMetrics() {
+		this(Integer.toString(ids.incrementAndGet()));
+	}
+
+	/**
+	 * @param id	Id of the service (used for the JMX object names)
+	 */
+	public ServiceMetrics(String id) {
+		super("service-" + id, null);
+		this.id = id;
+	}
+
+	/**
+	 * Create the metrics for a channel (registered via JMX if the service is registered)
+	 * @param name	Name of the channel
+	 * @return	Metrics of the channel
+	 */
+	ChannelMetrics acquire(String name) {
+		ChannelMetrics m = new ChannelMetrics(name, this);
+		channels.put(name, m);
+		synchronized (this) {
+			if (registered) {
+				register(m, channelObjectName(name));
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Drop the metrics of a channel (the records remain in the aggregate)
+	 * @param metrics	Metrics returned by <code>acquire()</code>
+	 */
+	void release(ChannelMetrics metrics) {
+		if (channels.remove(metrics.getName()) == metrics) {
+			synchronized (this) {
+				if (registered) {
+					unregister(channelObjectName(metrics.getName()));
+				}
+			}
+		}
+	}
+
+	@Override
+	void decode(Class<?> type, long nanos) {
+		super.decode(type, nanos);
+		getDecodeTime(type).record(nanos);
+	}
+
+	@Override
+	void monitorEvent(Class<?> type, long decode, long dispatch) {
+		super.monitorEvent(type, decode, dispatch);
+		getDecodeTime(type).record(decode);
+	}
+
+	/**
+	 * Get the decode time of a handler type
+	 * @param type	Type (see <code>Handlers.HANDLERS</code>)
+	 * @return	Decode time (nanoseconds)
+	 */
+	public Histogram getDecodeTime(Class<?> type) {
+		Histogram h = decodeTimeByType.get(type);
+		if (h == null) {
+			synchronized (decodeTimeByType) {
+				h = decodeTimeByType.get(type);
+				if (h == null) {
+					h = new Histogram();
+					decodeTimeByType.put(type, h);
+				}
+			}
+		}
+		return h;
+	}
+
+	/**
+	 * Get the metrics of a channel
+	 * @param name	Name of the channel
+	 * @return	Metrics or null if there is no channel with this name
+	 */
+	public ChannelMetrics getChannel(String name) {
+		return channels.get(name);
+	}
+
+	/**
+	 * @return	Metrics of all channels
+	 */
+	public List<ChannelMetrics> getChannels() {
+		return new ArrayList<ChannelMetrics>(channels.values());
+	}
+
+	@Override
+	public int getChannelCount() {
+		return channels.size();
+	}
+
+	@Override
+	public String[] getChannelNames() {
+		return channels.keySet().toArray(new String[0]);
+	}
+
+	@Override
+	public String[] getDecodeTimeByType() {
+		List<String> l = new ArrayList<String>();
+		for (Map.Entry<Class<?>, Histogram> e : decodeTimeByType.entrySet()) {
+			Histogram h = e.getValue();
+			l.add(String.format("%s: n=%d mean=%.1fus p99=%.1fus max=%.1fus", e.getKey().getSimpleName(), h.getCount(), h.getMean() / 1000.0, h.getPercentile(99) / 1000.0, h.getMax() / 1000.0));
+		}
+		return l.toArray(new String[l.size()]);
+	}
+
+	/**
+	 * Reset the aggregated metrics as well as the metrics of all channels
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		for (Histogram h : decodeTimeByType.values()) {
+			h.reset();
+		}
+		for (ChannelMetrics m : channels.values()) {
+			m.reset();
+		}
+	}
+
+	/**
+	 * Register the service and its channels in the platform MBean server
+	 */
+	public synchronized void register() {
+		if (registered) {
+			return;
+		}
+		registered = true;
+		register(this, serviceObjectName());
+		for (ChannelMetrics m : channels.values()) {
+			register(m, channelObjectName(m.getName()));
+		}
+	}
+
+	/**
+	 * Unregister the service and its channels from the platform MBean server
+	 */
+	public synchronized void unregister() {
+		if (!registered) {
+			return;
+		}
+		registered = false;
+		for (ChannelMetrics m : channels.values()) {
+			unregister(channelObjectName(m.getName()));
+		}
+		unregister(serviceObjectName());
+	}
+
+	private ObjectName serviceObjectName() {
+		return objectName("ch.psi.jcae:type=ChannelService,id=" + id);
+	}
+
+	private ObjectName channelObjectName(String name) {
+		return objectName("ch.psi.jcae:type=Channel,service=" + id + ",name=" + ObjectName.quote(name));
+	}
+
+	private static ObjectName objectName(String name) {
+		try {
+			return new ObjectName(name);
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Invalid object name " + name, e);
+		}
+	}
+
+	private static void register(Object mbean, ObjectName name) {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(mbean, name);
+		} catch (JMException e) {
+			logger.log(Level.WARNING, "Unable to register metrics " + name, e);
+		}
+	}
+
+	private static void unregister(ObjectName name) {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			logger.log(Level.WARNING, "Unable to unregister metrics " + name, e);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package ch.psi.jcae.impl;
+
+/**
+ * JMX view of the metrics of a channel service (see {@link ServiceMetrics}).
+ * The channel metrics attributes are the aggregate of all channels of the service.
+ */
+public interface ServiceMetricsMBean extends ChannelMetricsMBean {
+
+	/**
+	 * @return	Number of channels with metrics
+	 */
+	public int getChannelCount();
+
+	/**
+	 * @return	Names of the channels with metrics
+	 */
+	public String[] getChannelNames();
+
+	/**
+	 * @return	Decode time per handler type - one line per type
+	 */
+	public String[] getDecodeTimeByType();
+}
@@ -1,107 +1,83 @@
 package ch.psi.jcae.impl;
 
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
+import ch.psi.jcae.ChannelException;
+
 import gov.aps.jca.CAStatus;
 import gov.aps.jca.event.PutEvent;
 import gov.aps.jca.event.PutListener;
 
 /**
  * Utility class implementing @see gov.aps.jca.PutListener used to accomplish an 
- * asynchronous put. The class decrements the passed latch once
+ * asynchronous put. The future completes with the set value once
  * the put operation has finished successfully.
  */
-public class SetFuture<T> implements PutListener, Future<T>
+public class SetFuture<T> extends CallbackFuture<T> implements PutListener
 {
 	
 	private static final Logger logger = Logger.getLogger(SetFuture.class.getName());
 	
-	private final CountDownLatch latch = new CountDownLatch(1);
 	private T value;
-        CAStatus status;
-        Exception exception;
+	private final ChannelMetrics metrics;
+	private final long start;
 
 	public SetFuture(T value){
+		this(value, null);
+	}
+	
+	/**
+	 * @param value		Value that is set
+	 * @param metrics	Metrics to record the latency to (null if not recorded)
+	 */
+	public SetFuture(T value, ChannelMetrics metrics){
 		this.value=value;
+		this.metrics = metrics;
+		this.start = metrics != null ? System.nanoTime() : 0;
 	}
 	
 	@Override
 	public void putCompleted(PutEvent ev) {
-            try{
-                status = ev.getStatus();
-                if(ev.getStatus() != CAStatus.NORMAL){
-                    logger.warning("Set failed with status: "+ev.getStatus());
+            if(ev.getStatus() != CAStatus.NORMAL){
+                logger.warning("Set failed with status: "+ev.getStatus());
+                if (metrics != null){
+                    metrics.putFailed();
                 }
-            } catch(Exception ex){
-                exception = ex;
-            } finally {
-                latch.countDown();
+                fail(new ChannelException(ev.getStatus().getMessage()));
+                return;
             }
+            if (metrics != null){
+                metrics.put(System.nanoTime() - start);
+            }
+            complete(value);
 	}
 
-	
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#cancel(boolean)
-	 */
-	@Override
-	public boolean cancel(boolean cancel) {
-		throw new UnsupportedOperationException("Cannot be canceled");
-	}
-
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#isCancelled()
-	 */
-	@Override
-	public boolean isCancelled() {
-		throw new UnsupportedOperationException("Cannot be canceled");
-	}
-	
-	/* (non-Javadoc)
+	/**
+	 * Failures are reported as RuntimeException (compatibility)
 	 * @see java.util.concurrent.Future#get()
 	 */
 	@Override
 	public T get() throws InterruptedException, ExecutionException {
-                DefaultChannel.assertNotInMonitorCallback();
-		latch.await();
-                if (exception != null){
-                    throw new RuntimeException("Error occured while setting value: " + exception.getMessage());
-                }
-                if (status != CAStatus.NORMAL){
-                    throw new RuntimeException(status.getMessage());
-                }                
-		return value;
+		try {
+			return super.get();
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+		}
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Failures are reported as RuntimeException (compatibility)
 	 * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
 	 */
 	@Override
 	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-                DefaultChannel.assertNotInMonitorCallback();
-		if(!latch.await(timeout, unit)){
-                    throw new TimeoutException("Timeout occured while setting value to channel");
+		try {
+			return super.get(timeout, unit);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause().getMessage(), e.getCause());
 		}
-                if (exception != null){
-                    throw new RuntimeException("Error occured while setting value: " + exception.getMessage());
-                }
-                if (status != CAStatus.NORMAL){
-                    throw new RuntimeException(status.getMessage());
-                }                
-		return value;
-	}
-
-	
-
-	/* (non-Javadoc)
-	 * @see java.util.concurrent.Future#isDone()
-	 */
-	@Override
-	public boolean isDone() {
-		return latch.getCount()==0;
 	}
 }
@@ -21,7 +21,11 @@ import gov.aps.jca.event.MonitorListener;
 
 /**
  * Future to wait for a channel to get to a specific value
+ * 
+ * @deprecated Not used by the library any more (channels wait via {@link MonitorWaitFuture}),
+ *             kept for API compatibility only
  */
+@Deprecated
 public class WaitFuture<E> implements MonitorListener, Future<E> {
 
 	
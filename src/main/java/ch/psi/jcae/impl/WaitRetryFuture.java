@@ -4,25 +4,28 @@ import gov.aps.jca.CAException;
 import gov.aps.jca.Channel;
 
 import java.util.Comparator;
-import java.util.Timer;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import ch.psi.jcae.impl.handler.Handler;
+
 /**
- * Future to wait for an event. The underlying listener gets periodically renewed
+ * Future to wait for an event. The underlying listener gets periodically renewed.
+ * The periodic renewal is stopped and the monitor is cleared as soon as the future
+ * is done (also if it is cancelled).
  */
-public class WaitRetryFuture<T> implements Future<T>{
+public class WaitRetryFuture<T> extends CallbackFuture<T>{
 
 	
 	private static final Logger logger = Logger.getLogger(WaitRetryFuture.class.getName());
 	
-	private final CountDownLatch latch = new CountDownLatch(1);
-	private Timer timer;
-	private WaitRetryTimerTask<T> task;
+	private volatile ScheduledFuture<?> schedule;
+	private final WaitRetryTimerTask<T> task;
 	
 	private Channel channel;
 	private T value;
@@ -42,87 +45,67 @@ public class WaitRetryFuture<T> implements Future<T>{
 	 * 
 	 * @param channel -
 	 * @param size -
+	 * @param handler Handler decoding the monitored values
 	 * @param value	-
 	 * @param comparator -
 	 * @param waitRetryPeriod -
+	 * @param scheduler Scheduler used to periodically renew the monitor (shared by all waits)
 	 */
-	public WaitRetryFuture(Channel channel, int size, T value, Comparator<T> comparator, long waitRetryPeriod){
+	public WaitRetryFuture(Channel channel, int size, Handler<?> handler, T value, Comparator<T> comparator, long waitRetryPeriod, ScheduledExecutorService scheduler){
 		this.channel = channel;
 		this.value = value;
 		
 		logger.fine("Wait for value with periodic monitor refresh");
 
-		timer = new Timer(true);
-		task = new WaitRetryTimerTask<T>(channel, size, value, comparator, latch);
+		task = new WaitRetryTimerTask<T>(channel, size, handler, value, comparator, this);
 
-		// Start timer to start a new monitor every *waitRetryPeriod* milliseconds
-		timer.scheduleAtFixedRate(task, 0l, waitRetryPeriod);
+		// Start a new monitor every *waitRetryPeriod* milliseconds
+		schedule = scheduler.scheduleAtFixedRate(task, 0l, waitRetryPeriod, TimeUnit.MILLISECONDS);
+		if(isDone()){
+			// Completed before the schedule was assigned
+			schedule.cancel(false);
+		}
 
 	}
 	
 	@Override
-	public boolean cancel(boolean mayInterruptIfRunning) {
-		throw new UnsupportedOperationException();
-	}
-
-	@Override
-	public boolean isCancelled() {
-		throw new UnsupportedOperationException();
-	}
+	protected void done() {
+		// Terminate periodic renewal
+		ScheduledFuture<?> s = schedule;
+		if (s != null) {
+			s.cancel(false);
+		}
 
-	@Override
-	public boolean isDone() {
-		return latch.getCount()==0;
+		// Clear the last monitor
+		try {
+			task.terminateCurrentMonitor();
+		} catch (CAException e) {
+			logger.log(Level.WARNING, "Unable to clear monitor of channel " + channel.getName(), e);
+		}
 	}
 
 	@Override
 	public T get() throws InterruptedException, ExecutionException {
-                DefaultChannel.assertNotInMonitorCallback();
 		try {
-			latch.await();
-			return task.getValue();
+			return super.get();
 		} finally {
 			// If interrupted we also have to clear the monitor, therefore this
 			// is in a finally clause
-
-			// Terminate timer
-			timer.cancel();
-
-			// Clear the last monitor
-			try {
-				task.terminateCurrentMonitor();
-			} catch (CAException e) {
-				throw new ExecutionException(e);
-			}
-
+			cancel(false);
 		}
-
 	}
 
 	@Override
 	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-                DefaultChannel.assertNotInMonitorCallback();
 		try {
-			boolean t = latch.await(timeout, TimeUnit.MILLISECONDS);
-			if (!t) {
-				// Throw an exception if a timeout occured
-				throw new TimeoutException("Timeout [" + timeout + "] occured while waiting for channel [" + channel.getName() + "] reaching specified value [" + value + "]");
-			}
-			return task.getValue();
+			return super.get(timeout, unit);
+		} catch (TimeoutException e) {
+			// Throw an exception if a timeout occured
+			throw new TimeoutException("Timeout [" + timeout + "] occured while waiting for channel [" + channel.getName() + "] reaching specified value [" + value + "]");
 		} finally {
-			// If interrupted we also have to clear the monitor, therefore this
+			// If interrupted or timed out we also have to clear the monitor, therefore this
 			// is in a finally clause
-
-			// Terminate timer
-			timer.cancel();
-
-			// Clear the last monitor
-			try {
-				task.terminateCurrentMonitor();
-			} catch (CAException e) {
-				throw new ExecutionException(e);
-			}
-
+			cancel(false);
 		}
 	}
 
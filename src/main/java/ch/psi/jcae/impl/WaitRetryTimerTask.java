@@ -9,40 +9,51 @@ import gov.aps.jca.event.MonitorEvent;
 import gov.aps.jca.event.MonitorListener;
 
 import java.util.Comparator;
-import java.util.TimerTask;
-import java.util.concurrent.CountDownLatch;
 import java.util.logging.Logger;
 
-import ch.psi.jcae.impl.handler.Handlers;
+import ch.psi.jcae.impl.handler.Handler;
 
 /**
  * Task that is creating (and replacing - if a monitor was created before by this task) a monitor.
  * This task is periodically triggered and ensures that if a monitor callback is lost on the
  * network that after some time never the less the value is recognized (when creating a new monitor).
+ * 
+ * The task does not block: the monitor of the period before is terminated by the first callback
+ * of the new monitor, i.e. as soon as the new monitor is active.
  */
-public class WaitRetryTimerTask<E> extends TimerTask {
+public class WaitRetryTimerTask<E> implements Runnable {
 	
 	private static final Logger logger = Logger.getLogger(WaitRetryTimerTask.class.getName());
 
 	private final Comparator<E> comparator;
 	private final E waitValue;
-	private final CountDownLatch latch;
+	private final CallbackFuture<E> future;
 	private final Channel channel;
 	private final int size;
-	private final Class<?> type;
+	private final Handler<?> handler;
 	
 	private Exception exception = null;
+	
+	/**
+	 * Currently active monitor
+	 */
 	private Monitor monitor = null;
 	
-	private E value;
+	/**
+	 * Monitor created by the last run that is not yet active
+	 */
+	private Monitor pending = null;
+	private MonitorListener pendingListener = null;
+	
+	private volatile E value;
 	
-	public WaitRetryTimerTask(Channel channel, int size, E rvalue, Comparator<E> comparator, CountDownLatch latch){
+	public WaitRetryTimerTask(Channel channel, int size, Handler<?> handler, E rvalue, Comparator<E> comparator, CallbackFuture<E> future){
 		this.channel = channel;
 		this.size = size;
 		this.comparator = comparator;
 		this.waitValue = rvalue;
-		this.latch = latch;
-		this.type = rvalue.getClass();
+		this.future = future;
+		this.handler = handler;
 	}
 	
 	@Override
@@ -50,22 +61,36 @@ public class WaitRetryTimerTask<E> extends TimerTask {
 		// Reset exception
 		exception = null; 
 		
+		// Nothing to do if the value is already reached or the monitor of the 
+		// last run is not yet active
+		if(future.isDone() || pending != null){
+			return;
+		}
+		
 		try{
 			
 			MonitorListener l = new MonitorListener() {
 				
+				private boolean active = false;
+				
 				/**
 				 * @see gov.aps.jca.event.MonitorListener#monitorChanged(gov.aps.jca.event.MonitorEvent)
 				 */
 				@SuppressWarnings("unchecked")
 				@Override
 				public void monitorChanged(MonitorEvent event) {
+					if(!active){
+						// First callback - the monitor is connected
+						active = true;
+						activated(this);
+					}
+					
 					if (event.getStatus() == CAStatus.NORMAL){
 						try{
-							value = (E) Handlers.HANDLERS.get(type).getValue(event.getDBR());
+							value = (E) handler.getValue(event.getDBR());
 							
 							if(value!=null && comparator.compare(value, waitValue)==0){
-								latch.countDown();
+								future.complete(value);
 							}
 						}
 						catch(CAStatusException e){
@@ -76,32 +101,14 @@ public class WaitRetryTimerTask<E> extends TimerTask {
                                                 if (event.getStatus() !=null){
             						logger.warning("Monitor failed with status: "+event.getStatus());
                                                 }
-//						latch.notifyAll();
 					}
 				}
 			};
 			
-			Monitor monitorw = channel.addMonitor(Handlers.HANDLERS.get(type).getDBRType(), size, Monitor.VALUE, l);
+			pending = channel.addMonitor(handler.getDBRType(), size, Monitor.VALUE, l);
+			pendingListener = l;
 			channel.getContext().flushIO();
 			
-			// Wait until monitor is connected - ensures that the the old monitor
-			// is not destroyed before the new one is active
-			while(!monitorw.isMonitoringValue()){
-				try {
-					Thread.sleep(10);
-				} catch (InterruptedException e) {
-				}
-			}
-			
-			// If a monitor was running before, terminate this monitor
-			if(monitor != null){
-				terminateCurrentMonitor();
-			}
-			
-			// Update variable holding current monitor.
-			monitor = monitorw;
-			
-			
 		} catch (IllegalStateException e) {
 			exception = e;
 		} catch (CAException e) {
@@ -109,9 +116,48 @@ public class WaitRetryTimerTask<E> extends TimerTask {
 		}
 	}
 	
+	/**
+	 * Called by the first callback of a new monitor. Only now the monitor of the period 
+	 * before is terminated, which ensures that no event is lost.
+	 * @param listener	Listener of the monitor that got active
+	 */
+	private synchronized void activated(MonitorListener listener){
+		if(listener != pendingListener){
+			return;
+		}
+		
+		// If a monitor was running before, terminate this monitor
+		try{
+			if(monitor != null){
+				monitor.clear();
+				channel.getContext().flushIO();
+			}
+		}
+		catch(CAException e){
+			exception = e;
+		}
+		
+		// Update variable holding current monitor.
+		monitor = pending;
+		pending = null;
+		pendingListener = null;
+	}
+	
 	public synchronized void terminateCurrentMonitor() throws CAException{
-		monitor.clear();
-		channel.getContext().flushIO();
+		try{
+			if(monitor != null){
+				monitor.clear();
+			}
+			if(pending != null){
+				pending.clear();
+			}
+			channel.getContext().flushIO();
+		}
+		finally{
+			monitor = null;
+			pending = null;
+			pendingListener = null;
+		}
 	}
 	
 	public Exception getException() {
@@ -8,35 +8,30 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Int;
 import gov.aps.jca.event.PutListener;
 
-public class BooleanArrayHandler implements Handler<boolean[]> {
+public final class BooleanArrayHandler implements BufferedHandler<boolean[]> {
 
 	@Override
 	public void setValue(Channel channel, Object value) throws CAException {
 		boolean[] values = (boolean[]) value;
-		int[] v = new int[values.length];
-		for (int i = 0; i < values.length; i++) {
-			v[i] = values[i] ? 1 : 0;
-		}
-		channel.put(((int[]) v));
+		channel.put(Scratch.encode(values, 0, values.length));
 	}
 
 	@Override
 	public void setValue(Channel channel, Object value, PutListener listener) throws CAException {
 		boolean[] values = (boolean[]) value;
-		int[] v = new int[values.length];
-		for (int i = 0; i < values.length; i++) {
-			v[i] = values[i] ? 1 : 0;
-		}
-		channel.put(((int[]) v), listener);
+		channel.put(Scratch.encode(values, 0, values.length), listener);
 	}
 
 	@Override
 	public boolean[] getValue(DBR dbr) throws CAStatusException {
-		int[] v = ((DBR_Int) dbr.convert(this.getDBRType())).getIntValue();
-		boolean[] b = new boolean[v.length];
-		for (int i = 0; i < v.length; i++) {
-			b[i] = (v[i] > 0);
-		}
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public boolean[] getValue(DBR dbr, boolean[] buffer) throws CAStatusException {
+		int[] v = ((DBR_Int) Handlers.convert(dbr, this.getDBRType())).getIntValue();
+		boolean[] b = (buffer != null && buffer.length == v.length) ? buffer : new boolean[v.length];
+		Conversions.toBooleans(v, b, v.length);
 		return b;
 	}
 
@@ -9,40 +9,37 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_Int;
 import gov.aps.jca.event.PutListener;
 
-public class BooleanArrayTimestampHandler implements Handler<BooleanArrayTimestamp> {
+public final class BooleanArrayTimestampHandler implements BufferedHandler<BooleanArrayTimestamp> {
 
 	@Override
 	public void setValue(Channel channel, Object value) throws CAException {
 		boolean[] values = ((BooleanArrayTimestamp) value).getValue();
-		int[] v = new int[values.length];
-		for (int i = 0; i < values.length; i++) {
-			v[i] = values[i] ? 1 : 0;
-		}
-		channel.put(((int[]) v));
+		channel.put(Scratch.encode(values, 0, values.length));
 	}
 
 	@Override
 	public void setValue(Channel channel, Object value, PutListener listener) throws CAException {
 		boolean[] values = ((BooleanArrayTimestamp) value).getValue();
-		int[] v = new int[values.length];
-		for (int i = 0; i < values.length; i++) {
-			v[i] = values[i] ? 1 : 0;
-		}
-		channel.put(((int[]) v), listener);
+		channel.put(Scratch.encode(values, 0, values.length), listener);
 	}
 
 	@Override
 	public BooleanArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		BooleanArrayTimestamp bt = new BooleanArrayTimestamp();
-		DBR_TIME_Int vt = ((DBR_TIME_Int) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public BooleanArrayTimestamp getValue(DBR dbr, BooleanArrayTimestamp buffer) throws CAStatusException {
+		BooleanArrayTimestamp bt = (buffer != null) ? buffer : new BooleanArrayTimestamp();
+		DBR_TIME_Int vt = ((DBR_TIME_Int) Handlers.convert(dbr, this.getDBRType()));
 		int[] v = vt.getIntValue();
-		boolean[] value = new boolean[v.length];
-		for (int i = 0; i < v.length; i++) {
-			value[i] = (v[i] > 0);
+		boolean[] value = bt.getValue();
+		if (value == null || value.length != v.length) {
+			value = new boolean[v.length];
 		}
+		Conversions.toBooleans(v, value, v.length);
 		bt.setValue(value);
-		bt.setTime(vt.getTimeStamp());
-                bt.setSeverity(vt.getSeverity().getValue());
+		bt.setMetadata(vt);
 		return bt;
 	}
 
@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Int;
 import gov.aps.jca.event.PutListener;
 
-public class BooleanHandler implements Handler<Boolean> {
+public final class BooleanHandler implements Handler<Boolean> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class BooleanHandler implements Handler<Boolean> {
 
 	@Override
 	public Boolean getValue(DBR dbr) throws CAStatusException {
-		return ((Boolean) (((DBR_Int) dbr.convert(this.getDBRType())).getIntValue()[0] > 0));
+		return ((Boolean) (((DBR_Int) Handlers.convert(dbr, this.getDBRType())).getIntValue()[0] > 0));
 	}
 
 	@Override
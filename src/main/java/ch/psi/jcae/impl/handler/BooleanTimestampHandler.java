@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Int;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.BooleanTimestamp;
 
-public class BooleanTimestampHandler implements Handler<BooleanTimestamp> {
+public final class BooleanTimestampHandler implements BufferedHandler<BooleanTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class BooleanTimestampHandler implements Handler<BooleanTimestamp> {
 
 	@Override
 	public BooleanTimestamp getValue(DBR dbr) throws CAStatusException {
-		BooleanTimestamp t = new BooleanTimestamp();
-		DBR_TIME_Int v = ((DBR_TIME_Int) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public BooleanTimestamp getValue(DBR dbr, BooleanTimestamp buffer) throws CAStatusException {
+		BooleanTimestamp t = (buffer != null) ? buffer : new BooleanTimestamp();
+		DBR_TIME_Int v = ((DBR_TIME_Int) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getIntValue()[0] > 0);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
@@ -0,0 +1,20 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.dbr.DBR;
+
+/**
+ * Handler that is able to decode a DBR into a previously returned value instead of
+ * allocating a new one. Used by the buffer recycling monitor mode of a channel.
+ */
+public interface BufferedHandler<T> extends Handler<T> {
+
+	/**
+	 * Get the java type for given DBR type, reusing the passed buffer if possible
+	 * @param dbr		DBR type
+	 * @param buffer	Value returned by a previous call that may be overwritten (may be null)
+	 * @return	Java type corresponding to passed DBR - either the refilled buffer or a new object
+	 * @throws CAStatusException -
+	 */
+	public T getValue(DBR dbr, T buffer) throws CAStatusException;
+}
@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Byte;
 import gov.aps.jca.event.PutListener;
 
-public class ByteArrayHandler implements Handler<byte[]> {
+public final class ByteArrayHandler implements Handler<byte[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class ByteArrayHandler implements Handler<byte[]> {
 
 	@Override
 	public byte[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_Byte) dbr.convert(this.getDBRType())).getByteValue();
+		return ((DBR_Byte) Handlers.convert(dbr, this.getDBRType())).getByteValue();
 	}
 
 	@Override
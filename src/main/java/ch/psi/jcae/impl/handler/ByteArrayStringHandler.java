@@ -9,37 +9,54 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Byte;
 import gov.aps.jca.event.PutListener;
 
-public class ByteArrayStringHandler implements Handler<ByteArrayString> {
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public final class ByteArrayStringHandler implements Handler<ByteArrayString> {
+
+	/**
+	 * Character set of the strings held by byte (char) waveforms
+	 */
+	public static final Charset CHARSET = StandardCharsets.UTF_8;
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
-		channel.put(((ByteArrayString) value).getValue().getBytes());
+		channel.put(encode(((ByteArrayString) value).getValue()));
 	}
 
 	@Override
 	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
-		channel.put(((ByteArrayString) value).getValue().getBytes(), listener);
+		channel.put(encode(((ByteArrayString) value).getValue()), listener);
 	}
 
 	@Override
 	public ByteArrayString getValue(DBR dbr) throws CAStatusException {
 
-		byte[] value = ((DBR_Byte) dbr.convert(this.getDBRType())).getByteValue();
+		byte[] value = ((DBR_Byte) Handlers.convert(dbr, this.getDBRType())).getByteValue();
 		ByteArrayString v = new ByteArrayString();
-		int x = 0;
-		for (x = 0; x < value.length; x++) {
-			if (value[x] == 0) { // Check for the null character / termination
-									// of the string
-				break;
-			}
-		}
-
-		String a = new String(value);
-		v.setValue(a.substring(0, x));
+		// Decode up to the null character / termination of the string only
+		v.setValue(new String(value, 0, Conversions.indexOfNul(value), CHARSET));
 
 		return v;
 	}
 
+	/**
+	 * Encode the string into a scratch array if it only holds ASCII characters
+	 * (otherwise the bytes of the string are allocated as usual)
+	 */
+	private static byte[] encode(String value) {
+		int n = value.length();
+		byte[] b = Scratch.bytes(n);
+		for (int i = 0; i < n; i++) {
+			char c = value.charAt(i);
+			if (c >= 0x80) {
+				return value.getBytes(CHARSET);
+			}
+			b[i] = (byte) c;
+		}
+		return b;
+	}
+
 	@Override
 	public DBRType getDBRType() {
 		return DBR_Byte.TYPE;
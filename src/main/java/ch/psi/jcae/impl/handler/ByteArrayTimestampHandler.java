@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_Byte;
 import gov.aps.jca.event.PutListener;
 
-public class ByteArrayTimestampHandler implements Handler<ByteArrayTimestamp> {
+public final class ByteArrayTimestampHandler implements BufferedHandler<ByteArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class ByteArrayTimestampHandler implements Handler<ByteArrayTimestamp> {
 
 	@Override
 	public ByteArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		ByteArrayTimestamp t = new ByteArrayTimestamp();
-		DBR_TIME_Byte v = (DBR_TIME_Byte) dbr.convert(this.getDBRType());
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public ByteArrayTimestamp getValue(DBR dbr, ByteArrayTimestamp buffer) throws CAStatusException {
+		ByteArrayTimestamp t = (buffer != null) ? buffer : new ByteArrayTimestamp();
+		DBR_TIME_Byte v = (DBR_TIME_Byte) Handlers.convert(dbr, this.getDBRType());
 		t.setValue(v.getByteValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
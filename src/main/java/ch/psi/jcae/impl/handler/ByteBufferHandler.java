@@ -0,0 +1,51 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Byte;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Handler exposing a waveform as read-only ByteBuffer view of the payload of the received DBR
+ * (no copy of the data into a separate array)
+ */
+public final class ByteBufferHandler implements Handler<ByteBuffer> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(toArray((ByteBuffer) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(toArray((ByteBuffer) value), listener);
+	}
+
+	@Override
+	public ByteBuffer getValue(DBR dbr) throws CAStatusException {
+		return ByteBuffer.wrap(((DBR_Byte) Handlers.convert(dbr, this.getDBRType())).getByteValue()).asReadOnlyBuffer();
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Byte.TYPE;
+	}
+
+	/**
+	 * Get the remaining elements of the buffer as array. The backing array is used as is
+	 * if it holds exactly the remaining elements.
+	 */
+	private static byte[] toArray(ByteBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		byte[] a = new byte[buffer.remaining()];
+		buffer.duplicate().get(a);
+		return a;
+	}
+}
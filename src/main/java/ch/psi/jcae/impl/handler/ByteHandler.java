@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Byte;
 import gov.aps.jca.event.PutListener;
 
-public class ByteHandler implements Handler<Byte> {
+public final class ByteHandler implements Handler<Byte> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class ByteHandler implements Handler<Byte> {
 
 	@Override
 	public Byte getValue(DBR dbr) throws CAStatusException {
-		return ((Byte) ((DBR_Byte) dbr.convert(this.getDBRType())).getByteValue()[0]);
+		return ((Byte) ((DBR_Byte) Handlers.convert(dbr, this.getDBRType())).getByteValue()[0]);
 	}
 
 	@Override
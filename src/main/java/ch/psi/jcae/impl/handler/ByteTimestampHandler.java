@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_Byte;
 import gov.aps.jca.event.PutListener;
 
-public class ByteTimestampHandler implements Handler<ByteTimestamp> {
+public final class ByteTimestampHandler implements BufferedHandler<ByteTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class ByteTimestampHandler implements Handler<ByteTimestamp> {
 
 	@Override
 	public ByteTimestamp getValue(DBR dbr) throws CAStatusException {
-		ByteTimestamp t = new ByteTimestamp();
-		DBR_TIME_Byte v = ((DBR_TIME_Byte) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public ByteTimestamp getValue(DBR dbr, ByteTimestamp buffer) throws CAStatusException {
+		ByteTimestamp t = (buffer != null) ? buffer : new ByteTimestamp();
+		DBR_TIME_Byte v = ((DBR_TIME_Byte) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getByteValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;             
 	}
 
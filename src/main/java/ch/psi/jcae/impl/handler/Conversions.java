@@ -0,0 +1,114 @@
+package ch.psi.jcae.impl.handler;
+
+/**
+ * Bulk conversions used by the handlers. The loops are unrolled (8 elements per iteration)
+ * and free of data dependent branches so that the JIT can vectorize them (the Vector API 
+ * is not available for the Java version this library is targeting).
+ */
+public final class Conversions {
+
+	private Conversions() {
+	}
+
+	/**
+	 * Convert ints to booleans (value &gt; 0 - true)
+	 * @param src		Source
+	 * @param dst		Destination
+	 * @param length	Number of elements to convert
+	 */
+	public static void toBooleans(int[] src, boolean[] dst, int length) {
+		int i = 0;
+		for (int n = length - 7; i < n; i += 8) {
+			dst[i] = src[i] > 0;
+			dst[i + 1] = src[i + 1] > 0;
+			dst[i + 2] = src[i + 2] > 0;
+			dst[i + 3] = src[i + 3] > 0;
+			dst[i + 4] = src[i + 4] > 0;
+			dst[i + 5] = src[i + 5] > 0;
+			dst[i + 6] = src[i + 6] > 0;
+			dst[i + 7] = src[i + 7] > 0;
+		}
+		for (; i < length; i++) {
+			dst[i] = src[i] > 0;
+		}
+	}
+
+	/**
+	 * Convert booleans to ints (true - 1, false - 0)
+	 * @param src		Source
+	 * @param offset	Index of the first element of the source to convert
+	 * @param dst		Destination (starting at index 0)
+	 * @param length	Number of elements to convert
+	 */
+	public static void toInts(boolean[] src, int offset, int[] dst, int length) {
+		int i = 0;
+		for (int n = length - 7; i < n; i += 8) {
+			int o = offset + i;
+			dst[i] = src[o] ? 1 : 0;
+			dst[i + 1] = src[o + 1] ? 1 : 0;
+			dst[i + 2] = src[o + 2] ? 1 : 0;
+			dst[i + 3] = src[o + 3] ? 1 : 0;
+			dst[i + 4] = src[o + 4] ? 1 : 0;
+			dst[i + 5] = src[o + 5] ? 1 : 0;
+			dst[i + 6] = src[o + 6] ? 1 : 0;
+			dst[i + 7] = src[o + 7] ? 1 : 0;
+		}
+		for (; i < length; i++) {
+			dst[i] = src[offset + i] ? 1 : 0;
+		}
+	}
+
+	/**
+	 * Largest magnitude of a long that is exactly representable as double (2^53)
+	 */
+	public static final long MAX_EXACT_LONG = 1L << 53;
+
+	/**
+	 * Convert a long to double
+	 * @param value	Value
+	 * @return	Value as double
+	 * @throws IllegalArgumentException	Value cannot be represented exactly (magnitude &gt; 2^53)
+	 */
+	public static double toDouble(long value) {
+		if (value > MAX_EXACT_LONG || value < -MAX_EXACT_LONG) {
+			throw new IllegalArgumentException("Value " + value + " exceeds the range exactly representable as double (+/-2^53)");
+		}
+		return value;
+	}
+
+	/**
+	 * Convert longs to doubles
+	 * @param src		Source
+	 * @param offset	Index of the first element of the source to convert
+	 * @param dst		Destination (starting at index 0)
+	 * @param length	Number of elements to convert
+	 * @throws IllegalArgumentException	A value cannot be represented exactly (magnitude &gt; 2^53)
+	 */
+	public static void toDoubles(long[] src, int offset, double[] dst, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[i] = toDouble(src[offset + i]);
+		}
+	}
+
+	/**
+	 * Get the index of the first NUL byte (string terminator)
+	 * @param bytes	Bytes
+	 * @return	Index of the first NUL byte, length of the array if there is none
+	 */
+	public static int indexOfNul(byte[] bytes) {
+		int i = 0;
+		// Check 8 bytes per iteration (non short-circuit or - no branch per byte)
+		for (int n = bytes.length - 7; i < n; i += 8) {
+			if ((bytes[i] == 0) | (bytes[i + 1] == 0) | (bytes[i + 2] == 0) | (bytes[i + 3] == 0)
+					| (bytes[i + 4] == 0) | (bytes[i + 5] == 0) | (bytes[i + 6] == 0) | (bytes[i + 7] == 0)) {
+				break;
+			}
+		}
+		for (; i < bytes.length; i++) {
+			if (bytes[i] == 0) {
+				return i;
+			}
+		}
+		return bytes.length;
+	}
+}
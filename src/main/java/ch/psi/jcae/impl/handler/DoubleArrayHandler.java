@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Double;
 import gov.aps.jca.event.PutListener;
 
-public class DoubleArrayHandler implements Handler<double[]> {
+public final class DoubleArrayHandler implements Handler<double[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class DoubleArrayHandler implements Handler<double[]> {
 
 	@Override
 	public double[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_Double) dbr.convert(this.getDBRType())).getDoubleValue();
+		return ((DBR_Double) Handlers.convert(dbr, this.getDBRType())).getDoubleValue();
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Double;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.DoubleArrayTimestamp;
 
-public class DoubleArrayTimestampHandler implements Handler<DoubleArrayTimestamp> {
+public final class DoubleArrayTimestampHandler implements BufferedHandler<DoubleArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class DoubleArrayTimestampHandler implements Handler<DoubleArrayTimestamp
 
 	@Override
 	public DoubleArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		DoubleArrayTimestamp t = new DoubleArrayTimestamp();
-		DBR_TIME_Double v = ((DBR_TIME_Double) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public DoubleArrayTimestamp getValue(DBR dbr, DoubleArrayTimestamp buffer) throws CAStatusException {
+		DoubleArrayTimestamp t = (buffer != null) ? buffer : new DoubleArrayTimestamp();
+		DBR_TIME_Double v = ((DBR_TIME_Double) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getDoubleValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
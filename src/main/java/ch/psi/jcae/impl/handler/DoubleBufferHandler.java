@@ -0,0 +1,51 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Handler exposing a waveform as read-only DoubleBuffer view of the payload of the received DBR
+ * (no copy of the data into a separate array)
+ */
+public final class DoubleBufferHandler implements Handler<DoubleBuffer> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(toArray((DoubleBuffer) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(toArray((DoubleBuffer) value), listener);
+	}
+
+	@Override
+	public DoubleBuffer getValue(DBR dbr) throws CAStatusException {
+		return DoubleBuffer.wrap(((DBR_Double) Handlers.convert(dbr, this.getDBRType())).getDoubleValue()).asReadOnlyBuffer();
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Double.TYPE;
+	}
+
+	/**
+	 * Get the remaining elements of the buffer as array. The backing array is used as is
+	 * if it holds exactly the remaining elements.
+	 */
+	private static double[] toArray(DoubleBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		double[] a = new double[buffer.remaining()];
+		buffer.duplicate().get(a);
+		return a;
+	}
+}
@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Double;
 import gov.aps.jca.event.PutListener;
 
-public class DoubleHandler implements Handler<Double> {
+public final class DoubleHandler implements Handler<Double> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class DoubleHandler implements Handler<Double> {
 
 	@Override
 	public Double getValue(DBR dbr) throws CAStatusException {
-		return ((Double) ((DBR_Double) dbr.convert(this.getDBRType())).getDoubleValue()[0]);
+		return ((Double) ((DBR_Double) Handlers.convert(dbr, this.getDBRType())).getDoubleValue()[0]);
 	}
 
 	@Override
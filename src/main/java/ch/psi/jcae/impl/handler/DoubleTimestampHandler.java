@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_Double;
 import gov.aps.jca.event.PutListener;
 
-public class DoubleTimestampHandler implements Handler<DoubleTimestamp> {
+public final class DoubleTimestampHandler implements BufferedHandler<DoubleTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E  value) throws CAException {
@@ -23,11 +23,15 @@ public class DoubleTimestampHandler implements Handler<DoubleTimestamp> {
 
 	@Override
 	public DoubleTimestamp getValue(DBR dbr) throws CAStatusException {
-		DoubleTimestamp t = new DoubleTimestamp();
-		DBR_TIME_Double v = ((DBR_TIME_Double) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public DoubleTimestamp getValue(DBR dbr, DoubleTimestamp buffer) throws CAStatusException {
+		DoubleTimestamp t = (buffer != null) ? buffer : new DoubleTimestamp();
+		DBR_TIME_Double v = ((DBR_TIME_Double) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getDoubleValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
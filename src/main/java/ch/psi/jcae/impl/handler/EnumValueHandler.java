@@ -0,0 +1,65 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_TIME_Enum;
+import gov.aps.jca.event.PutListener;
+import ch.psi.jcae.impl.type.EnumValue;
+
+/**
+ * Handler of enum channels. The enum is transferred as index (DBR_TIME_Enum), the labels
+ * are set by the channel once per connection and attached to the decoded values. As the
+ * label table is channel specific each channel uses its own instance.
+ */
+public final class EnumValueHandler implements BufferedHandler<EnumValue> {
+
+	private volatile String[] labels;
+
+	/**
+	 * @return Label table attached to the decoded values (null if not known)
+	 */
+	public String[] getLabels() {
+		return labels;
+	}
+
+	/**
+	 * @param labels
+	 *            Label table attached to the decoded values
+	 */
+	public void setLabels(String[] labels) {
+		this.labels = labels;
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(((EnumValue) value).getIndex());
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(((EnumValue) value).getIndex(), listener);
+	}
+
+	@Override
+	public EnumValue getValue(DBR dbr) throws CAStatusException {
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public EnumValue getValue(DBR dbr, EnumValue buffer) throws CAStatusException {
+		EnumValue t = (buffer != null) ? buffer : new EnumValue();
+		DBR_TIME_Enum v = ((DBR_TIME_Enum) Handlers.convert(dbr, this.getDBRType()));
+		t.setValue(v.getEnumValue()[0]);
+		t.setMetadata(v);
+		t.setLabels(labels);
+		return t;
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_TIME_Enum.TYPE;
+	}
+}
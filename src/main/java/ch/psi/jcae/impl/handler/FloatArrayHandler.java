@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Float;
 import gov.aps.jca.event.PutListener;
 
-public class FloatArrayHandler implements Handler<float[]> {
+public final class FloatArrayHandler implements Handler<float[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class FloatArrayHandler implements Handler<float[]> {
 
 	@Override
 	public float[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_Float) dbr.convert(this.getDBRType())).getFloatValue();
+		return ((DBR_Float) Handlers.convert(dbr, this.getDBRType())).getFloatValue();
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Float;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.FloatArrayTimestamp;
 
-public class FloatArrayTimestampHandler implements Handler<FloatArrayTimestamp> {
+public final class FloatArrayTimestampHandler implements BufferedHandler<FloatArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class FloatArrayTimestampHandler implements Handler<FloatArrayTimestamp>
 
 	@Override
 	public FloatArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		FloatArrayTimestamp t = new FloatArrayTimestamp();
-		DBR_TIME_Float v = ((DBR_TIME_Float) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public FloatArrayTimestamp getValue(DBR dbr, FloatArrayTimestamp buffer) throws CAStatusException {
+		FloatArrayTimestamp t = (buffer != null) ? buffer : new FloatArrayTimestamp();
+		DBR_TIME_Float v = ((DBR_TIME_Float) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getFloatValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
@@ -0,0 +1,51 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Float;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Handler exposing a waveform as read-only FloatBuffer view of the payload of the received DBR
+ * (no copy of the data into a separate array)
+ */
+public final class FloatBufferHandler implements Handler<FloatBuffer> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(toArray((FloatBuffer) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(toArray((FloatBuffer) value), listener);
+	}
+
+	@Override
+	public FloatBuffer getValue(DBR dbr) throws CAStatusException {
+		return FloatBuffer.wrap(((DBR_Float) Handlers.convert(dbr, this.getDBRType())).getFloatValue()).asReadOnlyBuffer();
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Float.TYPE;
+	}
+
+	/**
+	 * Get the remaining elements of the buffer as array. The backing array is used as is
+	 * if it holds exactly the remaining elements.
+	 */
+	private static float[] toArray(FloatBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		float[] a = new float[buffer.remaining()];
+		buffer.duplicate().get(a);
+		return a;
+	}
+}
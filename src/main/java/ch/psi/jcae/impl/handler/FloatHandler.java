@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Float;
 import gov.aps.jca.event.PutListener;
 
-public class FloatHandler implements Handler<Float> {
+public final class FloatHandler implements Handler<Float> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class FloatHandler implements Handler<Float> {
 
 	@Override
 	public Float getValue(DBR dbr) throws CAStatusException {
-		return ((Float) ((DBR_Float) dbr.convert(this.getDBRType())).getFloatValue()[0]);
+		return ((Float) ((DBR_Float) Handlers.convert(dbr, this.getDBRType())).getFloatValue()[0]);
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Float;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.FloatTimestamp;
 
-public class FloatTimestampHandler implements Handler<FloatTimestamp> {
+public final class FloatTimestampHandler implements BufferedHandler<FloatTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class FloatTimestampHandler implements Handler<FloatTimestamp> {
 
 	@Override
 	public FloatTimestamp getValue(DBR dbr) throws CAStatusException {
-		FloatTimestamp t = new FloatTimestamp();
-		DBR_TIME_Float v = ((DBR_TIME_Float) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public FloatTimestamp getValue(DBR dbr, FloatTimestamp buffer) throws CAStatusException {
+		FloatTimestamp t = (buffer != null) ? buffer : new FloatTimestamp();
+		DBR_TIME_Float v = ((DBR_TIME_Float) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getFloatValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
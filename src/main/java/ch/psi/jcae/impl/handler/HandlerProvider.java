@@ -0,0 +1,21 @@
+package ch.psi.jcae.impl.handler;
+
+import java.util.Map;
+
+/**
+ * Service provider of custom handlers. Implementations are looked up via the
+ * {@link java.util.ServiceLoader} (i.e. listed in
+ * <code>META-INF/services/ch.psi.jcae.impl.handler.HandlerProvider</code>) and their handlers
+ * are registered in {@link Handlers} after the built-in handlers.
+ *
+ * Types holding an array value need to implement {@link ch.psi.jcae.impl.type.ArrayValueHolder}.
+ * Handlers implementing {@link BufferedHandler} are used for buffer recycling.
+ */
+public interface HandlerProvider {
+
+	/**
+	 * Get the handlers to register
+	 * @return	Handlers by the JAVA class they are responsible for
+	 */
+	public Map<Class<?>, Handler<?>> getHandlers();
+}
@@ -1,15 +1,34 @@
 package ch.psi.jcae.impl.handler;
 
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
 import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Byte;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.dbr.DBR_Float;
+import gov.aps.jca.dbr.DBR_Int;
+import gov.aps.jca.dbr.DBR_Short;
+import gov.aps.jca.event.PutListener;
 
 import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +40,7 @@ import ch.psi.jcae.impl.type.ByteArrayTimestamp;
 import ch.psi.jcae.impl.type.ByteTimestamp;
 import ch.psi.jcae.impl.type.DoubleArrayTimestamp;
 import ch.psi.jcae.impl.type.DoubleTimestamp;
+import ch.psi.jcae.impl.type.EnumValue;
 import ch.psi.jcae.impl.type.FloatArrayTimestamp;
 import ch.psi.jcae.impl.type.FloatTimestamp;
 import ch.psi.jcae.impl.type.IntegerArrayTimestamp;
@@ -33,15 +53,17 @@ import ch.psi.jcae.impl.type.TimestampValue;
 import ch.psi.jcae.util.ClassUtils;
 
 /**
- * Registry for all handlers
+ * Registry for all handlers. Besides the built-in handlers, custom handlers are registered
+ * from the {@link HandlerProvider}s found by the {@link ServiceLoader} or programmatically via
+ * {@link #register(Class, Handler)}.
  */
 public class Handlers {
 	private static Logger logger = Logger.getLogger(Handlers.class.getName());
 
 	private static final Class<?> NO_PARAMS[] = {};
-	public static final Map<Class<?>, Handler<?>> HANDLERS = new LinkedHashMap<Class<?>, Handler<?>>();
-	private static Map<DBRType, List<Class<?>>> DBR_TYPE_MAPPER_ARRAY = null;
-	private static Map<DBRType, List<Class<?>>> DBR_TYPE_MAPPER_SCALAR = null;
+	public static final Map<Class<?>, Handler<?>> HANDLERS = Collections.synchronizedMap(new LinkedHashMap<Class<?>, Handler<?>>());
+	private static volatile Map<DBRType, List<Class<?>>> DBR_TYPE_MAPPER_ARRAY = null;
+	private static volatile Map<DBRType, List<Class<?>>> DBR_TYPE_MAPPER_SCALAR = null;
 
 	// Static initializer
 	static {
@@ -98,23 +120,126 @@ public class Handlers {
 		HANDLERS.put(BooleanArrayTimestamp.class, new BooleanArrayTimestampHandler());
 		HANDLERS.put(BooleanTimestamp.class, new BooleanTimestampHandler());
 		HANDLERS.put(ByteArrayString.class, new ByteArrayStringHandler());
+
+		// ##################################
+		// Long values (transferred as double)
+		// ##################################
+		HANDLERS.put(long[].class, new LongArrayHandler());
+		HANDLERS.put(Long.class, new LongHandler());
+
+		// ##########
+		// Enum types
+		// ##########
+		HANDLERS.put(EnumValue.class, new EnumValueHandler());
+
+		// ################
+		// NIO buffer views
+		// ################
+		HANDLERS.put(ByteBuffer.class, new ByteBufferHandler());
+		HANDLERS.put(DoubleBuffer.class, new DoubleBufferHandler());
+		HANDLERS.put(FloatBuffer.class, new FloatBufferHandler());
+		HANDLERS.put(IntBuffer.class, new IntBufferHandler());
+		HANDLERS.put(ShortBuffer.class, new ShortBufferHandler());
+
+		// ###############
+		// Custom handlers
+		// ###############
+		loadProviders();
+	}
+
+	/**
+	 * Register the handlers of all providers found by the ServiceLoader. Built-in handlers
+	 * are not replaced by providers.
+	 */
+	private static void loadProviders() {
+		try {
+			for (HandlerProvider provider : ServiceLoader.load(HandlerProvider.class)) {
+				for (Map.Entry<Class<?>, Handler<?>> entry : provider.getHandlers().entrySet()) {
+					if (HANDLERS.containsKey(entry.getKey())) {
+						logger.warning(String.format("Handler for '%s' of provider '%s' ignored - type already registered",
+								entry.getKey().getName(), provider.getClass().getName()));
+						continue;
+					}
+					HANDLERS.put(entry.getKey(), entry.getValue());
+				}
+			}
+		} catch (ServiceConfigurationError e) {
+			logger.log(Level.WARNING, "Unable to load handler providers", e);
+		}
+	}
+
+	/**
+	 * Register a custom handler. The handler is used for channels created after the
+	 * registration. If a handler is already registered for the type it is replaced.
+	 * 
+	 * Types holding an array value need to implement {@link ArrayValueHolder}. The DBRType to
+	 * JAVA class mapping (see {@link #getFieldType(DBRType, boolean)}) resolves clashes in
+	 * favour of the types registered first, i.e. custom types do not change the default type
+	 * of a channel.
+	 * 
+	 * @param <T> -
+	 * @param type
+	 *            The JAVA class the handler is responsible for
+	 * @param handler
+	 *            Handler
+	 */
+	public static <T> void register(Class<T> type, Handler<T> handler) {
+		if (type == null || handler == null || handler.getDBRType() == null) {
+			throw new IllegalArgumentException("Type, handler and DBRType of the handler must not be null");
+		}
+		synchronized (Handlers.class) {
+			HANDLERS.put(type, handler);
+			DBR_TYPE_MAPPER_ARRAY = null;
+			DBR_TYPE_MAPPER_SCALAR = null;
+		}
+	}
+
+	/**
+	 * Remove the handler of a type (channels already created keep their handler)
+	 * 
+	 * @param type
+	 *            The JAVA class
+	 * @return The removed handler (null if no handler was registered)
+	 */
+	public static Handler<?> unregister(Class<?> type) {
+		synchronized (Handlers.class) {
+			Handler<?> handler = HANDLERS.remove(type);
+			DBR_TYPE_MAPPER_ARRAY = null;
+			DBR_TYPE_MAPPER_SCALAR = null;
+			return handler;
+		}
+	}
+
+	/**
+	 * Check whether a handler is registered for a type
+	 * 
+	 * @param type
+	 *            The JAVA class
+	 * @return true if the type is supported
+	 */
+	public static boolean isSupported(Class<?> type) {
+		return HANDLERS.containsKey(type);
 	}
 
 	private static void loadDBRTypeMapping() {
-		DBR_TYPE_MAPPER_ARRAY = new HashMap<DBRType, List<Class<?>>>();
-		DBR_TYPE_MAPPER_SCALAR = new HashMap<DBRType, List<Class<?>>>();
+		Map<DBRType, List<Class<?>>> mapperArray = new HashMap<DBRType, List<Class<?>>>();
+		Map<DBRType, List<Class<?>>> mapperScalar = new HashMap<DBRType, List<Class<?>>>();
 
 		Class<?> javaDBRClazz;
 		DBRType dbrType;
 		List<Class<?>> containedClazzes;
-		for (Map.Entry<Class<?>, Handler<?>> entry : HANDLERS.entrySet()) {
+		List<Map.Entry<Class<?>, Handler<?>>> entries;
+		synchronized (HANDLERS) {
+			entries = new ArrayList<Map.Entry<Class<?>, Handler<?>>>(HANDLERS.entrySet());
+		}
+		for (Map.Entry<Class<?>, Handler<?>> entry : entries) {
 			javaDBRClazz = entry.getKey();
 			dbrType = entry.getValue().getDBRType();
-			if (javaDBRClazz.isArray() || ArrayValueHolder.class.isAssignableFrom(javaDBRClazz)) {
-				containedClazzes = DBR_TYPE_MAPPER_ARRAY.get(dbrType);
+			if (isArrayType(javaDBRClazz)) {
+				containedClazzes = mapperArray.get(dbrType);
 				if (containedClazzes == null) {
 					containedClazzes = new ArrayList<Class<?>>(1);
-					DBR_TYPE_MAPPER_ARRAY.put(dbrType, containedClazzes);
+					mapperArray.put(dbrType, containedClazzes);
 				}
 				else {
 					logger.warning(String.format(
@@ -123,10 +248,10 @@ public class Handlers {
 				}
 				containedClazzes.add(javaDBRClazz);
 			} else {
-				containedClazzes = DBR_TYPE_MAPPER_SCALAR.get(dbrType);
+				containedClazzes = mapperScalar.get(dbrType);
 				if (containedClazzes == null) {
 					containedClazzes = new ArrayList<Class<?>>(1);
-					DBR_TYPE_MAPPER_SCALAR.put(dbrType, containedClazzes);
+					mapperScalar.put(dbrType, containedClazzes);
 				}
 				else {
 					logger.warning(String.format(
@@ -136,6 +261,8 @@ public class Handlers {
 				containedClazzes.add(javaDBRClazz);
 			}
 		}
+		DBR_TYPE_MAPPER_ARRAY = mapperArray;
+		DBR_TYPE_MAPPER_SCALAR = mapperScalar;
 	}
 
 	/**
@@ -150,33 +277,19 @@ public class Handlers {
 	public static Class<?> getFieldType(DBRType dbrType, boolean isArray) {
 		List<Class<?>> clazzList;
 		Class<?> ret = null;
-		if (isArray) {
-			// first check without lock
-			if (DBR_TYPE_MAPPER_ARRAY == null) {
-				// in case when not yet loaded acquire lock
-				synchronized (Handlers.class) {
-					// second check, this time with lock
-					if (DBR_TYPE_MAPPER_ARRAY == null) {
-						Handlers.loadDBRTypeMapping();
-					}
-				}
-			}
-
-			clazzList = DBR_TYPE_MAPPER_ARRAY.get(dbrType);
-		} else {
-			// first check without lock
-			if (DBR_TYPE_MAPPER_SCALAR == null) {
-				// in case when not yet loaded acquire lock
-				synchronized (Handlers.class) {
-					// second check, this time with lock
-					if (DBR_TYPE_MAPPER_SCALAR == null) {
-						Handlers.loadDBRTypeMapping();
-					}
+		// first check without lock (the mapping is reset if handlers are registered)
+		Map<DBRType, List<Class<?>>> mapper = isArray ? DBR_TYPE_MAPPER_ARRAY : DBR_TYPE_MAPPER_SCALAR;
+		if (mapper == null) {
+			// in case when not yet loaded acquire lock
+			synchronized (Handlers.class) {
+				// second check, this time with lock
+				if (DBR_TYPE_MAPPER_ARRAY == null || DBR_TYPE_MAPPER_SCALAR == null) {
+					Handlers.loadDBRTypeMapping();
 				}
+				mapper = isArray ? DBR_TYPE_MAPPER_ARRAY : DBR_TYPE_MAPPER_SCALAR;
 			}
-
-			clazzList = DBR_TYPE_MAPPER_SCALAR.get(dbrType);
 		}
+		clazzList = mapper.get(dbrType);
 
 		if (clazzList == null || clazzList.isEmpty()) {
 			throw new IllegalArgumentException("Type " + dbrType.getName() + " not supported");
@@ -208,6 +321,131 @@ public class Handlers {
 		}
 	}
 	
+	/**
+	 * Convert the passed DBR into the given type. If the DBR is already of the requested
+	 * type (usually the case as get and monitor requests use the DBRType of the handler)
+	 * it is returned as is, i.e. no copy of the payload is created.
+	 * 
+	 * @param dbr
+	 *            DBR to convert
+	 * @param type
+	 *            Requested DBRType
+	 * @return DBR of the requested type
+	 * @throws CAStatusException
+	 *             Conversion not possible
+	 */
+	public static DBR convert(DBR dbr, DBRType type) throws CAStatusException {
+		if (dbr.getType() == type) {
+			return dbr;
+		}
+		return dbr.convert(type);
+	}
+
+	/**
+	 * Put a region of an array to a channel. If the region does not cover the whole array it
+	 * is copied into a (thread local) scratch array, i.e. the caller does not need to
+	 * allocate an array of the exact size.
+	 * 
+	 * @param channel
+	 *            Channel to set value to
+	 * @param array
+	 *            Array (double[], float[], int[], short[], byte[], boolean[], long[] or String[])
+	 * @param offset
+	 *            Index of the first element to put
+	 * @param length
+	 *            Number of elements to put
+	 * @param listener
+	 *            Listener (null to put without acknowledgement)
+	 * @throws CAException
+	 *             -
+	 */
+	public static void putRegion(Channel channel, Object array, int offset, int length, PutListener listener) throws CAException {
+		Object v = Scratch.region(array, offset, length);
+		if (v instanceof double[]) {
+			if (listener != null) {
+				channel.put((double[]) v, listener);
+			} else {
+				channel.put((double[]) v);
+			}
+		} else if (v instanceof float[]) {
+			if (listener != null) {
+				channel.put((float[]) v, listener);
+			} else {
+				channel.put((float[]) v);
+			}
+		} else if (v instanceof int[]) {
+			if (listener != null) {
+				channel.put((int[]) v, listener);
+			} else {
+				channel.put((int[]) v);
+			}
+		} else if (v instanceof short[]) {
+			if (listener != null) {
+				channel.put((short[]) v, listener);
+			} else {
+				channel.put((short[]) v);
+			}
+		} else if (v instanceof byte[]) {
+			if (listener != null) {
+				channel.put((byte[]) v, listener);
+			} else {
+				channel.put((byte[]) v);
+			}
+		} else {
+			if (listener != null) {
+				channel.put((String[]) v, listener);
+			} else {
+				channel.put((String[]) v);
+			}
+		}
+	}
+
+	/**
+	 * Get the first element of a numeric DBR as primitive double (without boxing)
+	 * 
+	 * @param dbr
+	 *            DBR of a numeric type (double, float, int, short or byte)
+	 * @return Value
+	 */
+	public static double getDoubleValue(DBR dbr) {
+		if (dbr instanceof DBR_Double) {
+			return ((DBR_Double) dbr).getDoubleValue()[0];
+		} else if (dbr instanceof DBR_Float) {
+			return ((DBR_Float) dbr).getFloatValue()[0];
+		}
+		return getIntValue(dbr);
+	}
+
+	/**
+	 * Get the first element of an integer DBR as primitive int (without boxing)
+	 * 
+	 * @param dbr
+	 *            DBR of an integer type (int, short or byte)
+	 * @return Value
+	 */
+	public static int getIntValue(DBR dbr) {
+		if (dbr instanceof DBR_Int) {
+			return ((DBR_Int) dbr).getIntValue()[0];
+		} else if (dbr instanceof DBR_Short) {
+			return ((DBR_Short) dbr).getShortValue()[0];
+		} else if (dbr instanceof DBR_Byte) {
+			return ((DBR_Byte) dbr).getByteValue()[0];
+		}
+		throw new IllegalArgumentException("DBR type " + dbr.getType() + " is not numeric");
+	}
+	
+	/**
+	 * Determines whether values of the given class hold an array (Java arrays, complex types
+	 * holding an array and NIO buffers)
+	 * 
+	 * @param valueClazz
+	 *            The JAVA class
+	 * @return true if the class is an array type
+	 */
+	public static boolean isArrayType(Class<?> valueClazz) {
+		return valueClazz.isArray() || ArrayValueHolder.class.isAssignableFrom(valueClazz) || Buffer.class.isAssignableFrom(valueClazz);
+	}
+
 	/**
 	 * Extracts the class needed for the value Object
 	 * 
@@ -0,0 +1,51 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Int;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.IntBuffer;
+
+/**
+ * Handler exposing a waveform as read-only IntBuffer view of the payload of the received DBR
+ * (no copy of the data into a separate array)
+ */
+public final class IntBufferHandler implements Handler<IntBuffer> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(toArray((IntBuffer) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(toArray((IntBuffer) value), listener);
+	}
+
+	@Override
+	public IntBuffer getValue(DBR dbr) throws CAStatusException {
+		return IntBuffer.wrap(((DBR_Int) Handlers.convert(dbr, this.getDBRType())).getIntValue()).asReadOnlyBuffer();
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Int.TYPE;
+	}
+
+	/**
+	 * Get the remaining elements of the buffer as array. The backing array is used as is
+	 * if it holds exactly the remaining elements.
+	 */
+	private static int[] toArray(IntBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		int[] a = new int[buffer.remaining()];
+		buffer.duplicate().get(a);
+		return a;
+	}
+}
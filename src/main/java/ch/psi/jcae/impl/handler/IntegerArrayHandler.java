@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Int;
 import gov.aps.jca.event.PutListener;
 
-public class IntegerArrayHandler implements Handler<int[]> {
+public final class IntegerArrayHandler implements Handler<int[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class IntegerArrayHandler implements Handler<int[]> {
 
 	@Override
 	public int[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_Int) dbr.convert(this.getDBRType())).getIntValue();
+		return ((DBR_Int) Handlers.convert(dbr, this.getDBRType())).getIntValue();
 	}
 
 	@Override
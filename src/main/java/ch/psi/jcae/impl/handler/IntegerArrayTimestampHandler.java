@@ -10,7 +10,7 @@ import gov.aps.jca.event.PutListener;
 
 import ch.psi.jcae.impl.type.IntegerArrayTimestamp;
 
-public class IntegerArrayTimestampHandler implements Handler<IntegerArrayTimestamp> {
+public final class IntegerArrayTimestampHandler implements BufferedHandler<IntegerArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -24,11 +24,15 @@ public class IntegerArrayTimestampHandler implements Handler<IntegerArrayTimesta
 
 	@Override
 	public IntegerArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		IntegerArrayTimestamp t = new IntegerArrayTimestamp();
-		DBR_TIME_Int v = ((DBR_TIME_Int) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public IntegerArrayTimestamp getValue(DBR dbr, IntegerArrayTimestamp buffer) throws CAStatusException {
+		IntegerArrayTimestamp t = (buffer != null) ? buffer : new IntegerArrayTimestamp();
+		DBR_TIME_Int v = ((DBR_TIME_Int) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getIntValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Int;
 import gov.aps.jca.event.PutListener;
 
-public class IntegerHandler implements Handler<Integer> {
+public final class IntegerHandler implements Handler<Integer> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class IntegerHandler implements Handler<Integer> {
 
 	@Override
 	public Integer getValue(DBR dbr) throws CAStatusException {
-		return ((Integer) ((DBR_Int) dbr.convert(this.getDBRType())).getIntValue()[0]);
+		return ((Integer) ((DBR_Int) Handlers.convert(dbr, this.getDBRType())).getIntValue()[0]);
 	}
 
 	@Override
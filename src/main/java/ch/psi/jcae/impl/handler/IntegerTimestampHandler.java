@@ -10,7 +10,7 @@ import gov.aps.jca.event.PutListener;
 
 import ch.psi.jcae.impl.type.IntegerTimestamp;
 
-public class IntegerTimestampHandler implements Handler<IntegerTimestamp> {
+public final class IntegerTimestampHandler implements BufferedHandler<IntegerTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -24,11 +24,15 @@ public class IntegerTimestampHandler implements Handler<IntegerTimestamp> {
 
 	@Override
 	public IntegerTimestamp getValue(DBR dbr) throws CAStatusException {
-		IntegerTimestamp t = new IntegerTimestamp();
-		DBR_TIME_Int v = ((DBR_TIME_Int) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public IntegerTimestamp getValue(DBR dbr, IntegerTimestamp buffer) throws CAStatusException {
+		IntegerTimestamp t = (buffer != null) ? buffer : new IntegerTimestamp();
+		DBR_TIME_Int v = ((DBR_TIME_Int) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getIntValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
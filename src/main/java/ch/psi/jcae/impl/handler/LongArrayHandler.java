@@ -0,0 +1,49 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.PutListener;
+
+/**
+ * Handler of long arrays - transferred as double (see {@link LongHandler})
+ */
+public final class LongArrayHandler implements BufferedHandler<long[]> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(encode((long[]) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(encode((long[]) value), listener);
+	}
+
+	@Override
+	public long[] getValue(DBR dbr) throws CAStatusException {
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public long[] getValue(DBR dbr, long[] buffer) throws CAStatusException {
+		double[] v = ((DBR_Double) Handlers.convert(dbr, this.getDBRType())).getDoubleValue();
+		long[] l = (buffer != null && buffer.length == v.length) ? buffer : new long[v.length];
+		for (int i = 0; i < v.length; i++) {
+			l[i] = Math.round(v[i]);
+		}
+		return l;
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Double.TYPE;
+	}
+
+	private static double[] encode(long[] value) {
+		return Scratch.encode(value, 0, value.length);
+	}
+}
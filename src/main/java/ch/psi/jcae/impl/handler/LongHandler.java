@@ -0,0 +1,38 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.PutListener;
+
+/**
+ * Handler of long values. Channel Access has no 64-bit integer type (servers provide
+ * 64-bit fields as double), the value is therefore transferred as double. Only values
+ * up to +/-2^53 (exactly representable as double) can be set, setting a value out of
+ * this range fails with an IllegalArgumentException.
+ */
+public final class LongHandler implements Handler<Long> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(Conversions.toDouble(((Number)value).longValue()));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(Conversions.toDouble(((Number)value).longValue()), listener);
+	}
+
+	@Override
+	public Long getValue(DBR dbr) throws CAStatusException {
+		return Math.round(((DBR_Double) Handlers.convert(dbr, this.getDBRType())).getDoubleValue()[0]);
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Double.TYPE;
+	}
+}
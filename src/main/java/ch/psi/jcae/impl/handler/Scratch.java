@@ -0,0 +1,161 @@
+package ch.psi.jcae.impl.handler;
+
+import java.lang.reflect.Array;
+
+/**
+ * Thread local scratch arrays used to encode values that are put to a channel. CA copies 
+ * the passed array into its send buffer within the put call, i.e. the array can be reused
+ * by the next put of the same thread. As the number of elements put is the length of the
+ * array, a scratch array is only reused for puts with the same number of elements (the 
+ * common case for setpoint tables and patterns). Only the last array of each type is kept
+ * per thread.
+ */
+public final class Scratch {
+
+	private static final int INT = 0;
+	private static final int DOUBLE = 1;
+	private static final int FLOAT = 2;
+	private static final int SHORT = 3;
+	private static final int BYTE = 4;
+	private static final int STRING = 5;
+
+	private static final ThreadLocal<Object[]> arrays = new ThreadLocal<Object[]>() {
+		@Override
+		protected Object[] initialValue() {
+			return new Object[6];
+		}
+	};
+
+	private Scratch() {
+	}
+
+	public static int[] ints(int length) {
+		Object[] a = arrays.get();
+		int[] s = (int[]) a[INT];
+		if (s == null || s.length != length) {
+			s = new int[length];
+			a[INT] = s;
+		}
+		return s;
+	}
+
+	public static double[] doubles(int length) {
+		Object[] a = arrays.get();
+		double[] s = (double[]) a[DOUBLE];
+		if (s == null || s.length != length) {
+			s = new double[length];
+			a[DOUBLE] = s;
+		}
+		return s;
+	}
+
+	public static float[] floats(int length) {
+		Object[] a = arrays.get();
+		float[] s = (float[]) a[FLOAT];
+		if (s == null || s.length != length) {
+			s = new float[length];
+			a[FLOAT] = s;
+		}
+		return s;
+	}
+
+	public static short[] shorts(int length) {
+		Object[] a = arrays.get();
+		short[] s = (short[]) a[SHORT];
+		if (s == null || s.length != length) {
+			s = new short[length];
+			a[SHORT] = s;
+		}
+		return s;
+	}
+
+	public static byte[] bytes(int length) {
+		Object[] a = arrays.get();
+		byte[] s = (byte[]) a[BYTE];
+		if (s == null || s.length != length) {
+			s = new byte[length];
+			a[BYTE] = s;
+		}
+		return s;
+	}
+
+	public static String[] strings(int length) {
+		Object[] a = arrays.get();
+		String[] s = (String[]) a[STRING];
+		if (s == null || s.length != length) {
+			s = new String[length];
+			a[STRING] = s;
+		}
+		return s;
+	}
+
+	/**
+	 * Encode booleans as ints (1/0) into a scratch array
+	 * @param values	Values
+	 * @param offset	Index of the first value to encode
+	 * @param length	Number of values to encode
+	 * @return	Scratch array holding the encoded values
+	 */
+	public static int[] encode(boolean[] values, int offset, int length) {
+		int[] v = ints(length);
+		Conversions.toInts(values, offset, v, length);
+		return v;
+	}
+
+	/**
+	 * Encode longs as doubles into a scratch array
+	 * @param values	Values
+	 * @param offset	Index of the first value to encode
+	 * @param length	Number of values to encode
+	 * @return	Scratch array holding the encoded values
+	 * @throws IllegalArgumentException	A value cannot be represented exactly as double (magnitude &gt; 2^53)
+	 */
+	public static double[] encode(long[] values, int offset, int length) {
+		double[] v = doubles(length);
+		Conversions.toDoubles(values, offset, v, length);
+		return v;
+	}
+
+	/**
+	 * Get a region of an array. The array itself is returned if the region covers the whole 
+	 * array, otherwise the region is copied into a scratch array (booleans are encoded as ints,
+	 * longs as doubles).
+	 * @param array		Array (double[], float[], int[], short[], byte[], boolean[], long[] or String[])
+	 * @param offset	Index of the first element
+	 * @param length	Number of elements
+	 * @return	Array holding the region
+	 */
+	public static Object region(Object array, int offset, int length) {
+		int l = Array.getLength(array);
+		if (offset < 0 || length < 0 || offset + length > l) {
+			throw new IndexOutOfBoundsException("Region [offset: " + offset + " length: " + length + "] exceeds array of length " + l);
+		}
+		if (array instanceof boolean[]) {
+			return encode((boolean[]) array, offset, length);
+		}
+		if (array instanceof long[]) {
+			return encode((long[]) array, offset, length);
+		}
+		if (offset == 0 && length == l) {
+			return array;
+		}
+		Object s;
+		if (array instanceof double[]) {
+			s = doubles(length);
+		} else if (array instanceof float[]) {
+			s = floats(length);
+		} else if (array instanceof int[]) {
+			s = ints(length);
+		} else if (array instanceof short[]) {
+			s = shorts(length);
+		} else if (array instanceof byte[]) {
+			s = bytes(length);
+		} else if (array instanceof String[]) {
+			s = strings(length);
+		} else {
+			throw new IllegalArgumentException("Type " + array.getClass().getName() + " not supported");
+		}
+		System.arraycopy(array, offset, s, 0, length);
+		return s;
+	}
+}
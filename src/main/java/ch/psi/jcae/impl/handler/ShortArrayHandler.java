@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Short;
 import gov.aps.jca.event.PutListener;
 
-public class ShortArrayHandler implements Handler<short[]> {
+public final class ShortArrayHandler implements Handler<short[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class ShortArrayHandler implements Handler<short[]> {
 
 	@Override
 	public short[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_Short) dbr.convert(this.getDBRType())).getShortValue();
+		return ((DBR_Short) Handlers.convert(dbr, this.getDBRType())).getShortValue();
 	}
 
 	@Override
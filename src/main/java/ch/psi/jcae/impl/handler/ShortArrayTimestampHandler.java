@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Short;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.ShortArrayTimestamp;
 
-public class ShortArrayTimestampHandler implements Handler<ShortArrayTimestamp> {
+public final class ShortArrayTimestampHandler implements BufferedHandler<ShortArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class ShortArrayTimestampHandler implements Handler<ShortArrayTimestamp>
 
 	@Override
 	public ShortArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		ShortArrayTimestamp t = new ShortArrayTimestamp();
-		DBR_TIME_Short v = ((DBR_TIME_Short) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public ShortArrayTimestamp getValue(DBR dbr, ShortArrayTimestamp buffer) throws CAStatusException {
+		ShortArrayTimestamp t = (buffer != null) ? buffer : new ShortArrayTimestamp();
+		DBR_TIME_Short v = ((DBR_TIME_Short) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getShortValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
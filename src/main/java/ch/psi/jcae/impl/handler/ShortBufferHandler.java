@@ -0,0 +1,51 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Short;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Handler exposing a waveform as read-only ShortBuffer view of the payload of the received DBR
+ * (no copy of the data into a separate array)
+ */
+public final class ShortBufferHandler implements Handler<ShortBuffer> {
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		channel.put(toArray((ShortBuffer) value));
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		channel.put(toArray((ShortBuffer) value), listener);
+	}
+
+	@Override
+	public ShortBuffer getValue(DBR dbr) throws CAStatusException {
+		return ShortBuffer.wrap(((DBR_Short) Handlers.convert(dbr, this.getDBRType())).getShortValue()).asReadOnlyBuffer();
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return DBR_Short.TYPE;
+	}
+
+	/**
+	 * Get the remaining elements of the buffer as array. The backing array is used as is
+	 * if it holds exactly the remaining elements.
+	 */
+	private static short[] toArray(ShortBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		short[] a = new short[buffer.remaining()];
+		buffer.duplicate().get(a);
+		return a;
+	}
+}
@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_Short;
 import gov.aps.jca.event.PutListener;
 
-public class ShortHandler implements Handler<Short> {
+public final class ShortHandler implements Handler<Short> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class ShortHandler implements Handler<Short> {
 
 	@Override
 	public Short getValue(DBR dbr) throws CAStatusException {
-		return ((Short) ((DBR_Short) dbr.convert(this.getDBRType())).getShortValue()[0]);
+		return ((Short) ((DBR_Short) Handlers.convert(dbr, this.getDBRType())).getShortValue()[0]);
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBR_TIME_Short;
 import gov.aps.jca.event.PutListener;
 import ch.psi.jcae.impl.type.ShortTimestamp;
 
-public class ShortTimestampHandler implements Handler<ShortTimestamp> {
+public final class ShortTimestampHandler implements BufferedHandler<ShortTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class ShortTimestampHandler implements Handler<ShortTimestamp> {
 
 	@Override
 	public ShortTimestamp getValue(DBR dbr) throws CAStatusException {
-		ShortTimestamp t = new ShortTimestamp();
-		DBR_TIME_Short v = ((DBR_TIME_Short) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public ShortTimestamp getValue(DBR dbr, ShortTimestamp buffer) throws CAStatusException {
+		ShortTimestamp t = (buffer != null) ? buffer : new ShortTimestamp();
+		DBR_TIME_Short v = ((DBR_TIME_Short) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getShortValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
@@ -0,0 +1,337 @@
+package ch.psi.jcae.impl.handler;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Byte;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.dbr.DBR_Float;
+import gov.aps.jca.dbr.DBR_Int;
+import gov.aps.jca.dbr.DBR_Short;
+import gov.aps.jca.dbr.DBR_String;
+import gov.aps.jca.dbr.DBR_TIME_Byte;
+import gov.aps.jca.dbr.DBR_TIME_Double;
+import gov.aps.jca.dbr.DBR_TIME_Float;
+import gov.aps.jca.dbr.DBR_TIME_Int;
+import gov.aps.jca.dbr.DBR_TIME_Short;
+import gov.aps.jca.dbr.DBR_TIME_String;
+import gov.aps.jca.event.PutListener;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+
+/**
+ * Handler decoding a region of a waveform: <code>count</code> elements starting at
+ * <code>offset</code>, taking every <code>stride</code>-th element. The region is extracted
+ * from the payload of the DBR before the wrapped handler decodes it, i.e. only the region is
+ * converted (e.g. to <code>boolean[]</code>) and wrapped into the value type. Contiguous
+ * regions of buffer types are views of the payload (no copy). Values are set by the wrapped
+ * handler (starting at the first element of the waveform).
+ */
+public final class SliceHandler<T> implements Handler<T> {
+
+	private final Handler<T> handler;
+	private final int offset;
+	private final int count;
+	private final int stride;
+	private final boolean buffer;
+
+	/**
+	 * @param handler	Handler of the value type
+	 * @param offset	Index of the first element
+	 * @param count		Number of elements
+	 * @param stride	Distance between two elements (1 - contiguous region)
+	 * @throws IllegalArgumentException	Invalid slice or values of the handler cannot be sliced
+	 */
+	public SliceHandler(Handler<T> handler, int offset, int count, int stride) {
+		if (offset < 0 || count < 1 || stride < 1) {
+			throw new IllegalArgumentException("Invalid slice - offset: " + offset + " count: " + count + " stride: " + stride);
+		}
+		if (!isSupported(handler)) {
+			throw new IllegalArgumentException("Slices are not supported for handler " + handler.getClass().getName());
+		}
+		this.handler = handler;
+		this.offset = offset;
+		this.count = count;
+		this.stride = stride;
+		this.buffer = handler instanceof DoubleBufferHandler || handler instanceof FloatBufferHandler
+				|| handler instanceof IntBufferHandler || handler instanceof ShortBufferHandler
+				|| handler instanceof ByteBufferHandler;
+	}
+
+	/**
+	 * Get whether the values of the given handler can be sliced, i.e. the handler decodes a
+	 * DBR of a plain or <code>TIME</code> numeric/string type (strings held by char waveforms
+	 * cannot be sliced)
+	 * @param handler	Handler
+	 * @return	true if supported
+	 */
+	public static boolean isSupported(Handler<?> handler) {
+		if (handler instanceof ByteArrayStringHandler) {
+			return false;
+		}
+		DBRType type = handler.getDBRType();
+		return type == DBR_TIME_Double.TYPE || type == DBR_TIME_Float.TYPE || type == DBR_TIME_Int.TYPE
+				|| type == DBR_TIME_Short.TYPE || type == DBR_TIME_Byte.TYPE || type == DBR_TIME_String.TYPE
+				|| type == DBR_Double.TYPE || type == DBR_Float.TYPE || type == DBR_Int.TYPE
+				|| type == DBR_Short.TYPE || type == DBR_Byte.TYPE || type == DBR_String.TYPE;
+	}
+
+	/**
+	 * Get the number of elements of the waveform that need to be transferred for the slice
+	 * @return	Number of elements (prefix of the waveform up to the last element of the slice)
+	 */
+	public int getElementCount() {
+		return offset + (count - 1) * stride + 1;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value) throws CAException {
+		handler.setValue(channel, value);
+	}
+
+	@Override
+	public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+		handler.setValue(channel, value, listener);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getValue(DBR dbr) throws CAStatusException {
+		if (!buffer) {
+			return handler.getValue(slice(Handlers.convert(dbr, getDBRType())));
+		}
+		// Buffer views - decode the whole payload and slice the view
+		return (T) slice(handler.getValue(dbr));
+	}
+
+	@Override
+	public DBRType getDBRType() {
+		return handler.getDBRType();
+	}
+
+	/**
+	 * Extract the slice of the payload of a DBR. Status, severity and timestamp of
+	 * <code>TIME</code> DBRs are retained.
+	 * @param dbr	DBR of the whole (transferred) waveform
+	 * @return	DBR holding only the slice
+	 */
+	DBR slice(DBR dbr) {
+		DBRType type = dbr.getType();
+		if (type == DBR_TIME_Double.TYPE) {
+			DBR_TIME_Double d = (DBR_TIME_Double) dbr;
+			DBR_TIME_Double s = new DBR_TIME_Double((double[]) slice(d.getDoubleValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_TIME_Float.TYPE) {
+			DBR_TIME_Float d = (DBR_TIME_Float) dbr;
+			DBR_TIME_Float s = new DBR_TIME_Float((float[]) slice(d.getFloatValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_TIME_Int.TYPE) {
+			DBR_TIME_Int d = (DBR_TIME_Int) dbr;
+			DBR_TIME_Int s = new DBR_TIME_Int((int[]) slice(d.getIntValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_TIME_Short.TYPE) {
+			DBR_TIME_Short d = (DBR_TIME_Short) dbr;
+			DBR_TIME_Short s = new DBR_TIME_Short((short[]) slice(d.getShortValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_TIME_Byte.TYPE) {
+			DBR_TIME_Byte d = (DBR_TIME_Byte) dbr;
+			DBR_TIME_Byte s = new DBR_TIME_Byte((byte[]) slice(d.getByteValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_TIME_String.TYPE) {
+			DBR_TIME_String d = (DBR_TIME_String) dbr;
+			DBR_TIME_String s = new DBR_TIME_String((String[]) slice(d.getStringValue()));
+			s.setStatus(d.getStatus());
+			s.setSeverity(d.getSeverity());
+			s.setTimeStamp(d.getTimeStamp());
+			return s;
+		} else if (type == DBR_Double.TYPE) {
+			return new DBR_Double((double[]) slice(((DBR_Double) dbr).getDoubleValue()));
+		} else if (type == DBR_Float.TYPE) {
+			return new DBR_Float((float[]) slice(((DBR_Float) dbr).getFloatValue()));
+		} else if (type == DBR_Int.TYPE) {
+			return new DBR_Int((int[]) slice(((DBR_Int) dbr).getIntValue()));
+		} else if (type == DBR_Short.TYPE) {
+			return new DBR_Short((short[]) slice(((DBR_Short) dbr).getShortValue()));
+		} else if (type == DBR_Byte.TYPE) {
+			return new DBR_Byte((byte[]) slice(((DBR_Byte) dbr).getByteValue()));
+		} else if (type == DBR_String.TYPE) {
+			return new DBR_String((String[]) slice(((DBR_String) dbr).getStringValue()));
+		}
+		throw new IllegalArgumentException("Slices are not supported for " + type);
+	}
+
+	/**
+	 * Extract the slice of an array or buffer
+	 * @param value	Array or buffer of the whole (transferred) waveform
+	 * @return	Slice
+	 */
+	Object slice(Object value) {
+		if (value instanceof Buffer) {
+			return slice((Buffer) value);
+		}
+		if (value instanceof double[]) {
+			double[] a = (double[]) value;
+			double[] s = new double[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof long[]) {
+			long[] a = (long[]) value;
+			long[] s = new long[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof float[]) {
+			float[] a = (float[]) value;
+			float[] s = new float[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof int[]) {
+			int[] a = (int[]) value;
+			int[] s = new int[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof short[]) {
+			short[] a = (short[]) value;
+			short[] s = new short[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof byte[]) {
+			byte[] a = (byte[]) value;
+			byte[] s = new byte[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof boolean[]) {
+			boolean[] a = (boolean[]) value;
+			boolean[] s = new boolean[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		} else if (value instanceof String[]) {
+			String[] a = (String[]) value;
+			String[] s = new String[length(a.length)];
+			for (int i = 0, j = offset; i < s.length; i++, j += stride) {
+				s[i] = a[j];
+			}
+			return s;
+		}
+		throw new IllegalArgumentException("Slices are not supported for " + (value != null ? value.getClass().getName() : "null"));
+	}
+
+	/**
+	 * Contiguous slices of buffers are views (no copy), strided slices are copied
+	 */
+	private Object slice(Buffer value) {
+		int length = length(value.remaining());
+		int p = value.position() + (length > 0 ? offset : 0);
+		if (value instanceof DoubleBuffer) {
+			DoubleBuffer b = (DoubleBuffer) value;
+			if (stride == 1) {
+				return ((DoubleBuffer) b.duplicate().position(p).limit(p + length)).slice();
+			}
+			double[] s = new double[length];
+			for (int i = 0, j = p; i < length; i++, j += stride) {
+				s[i] = b.get(j);
+			}
+			return DoubleBuffer.wrap(s).asReadOnlyBuffer();
+		} else if (value instanceof FloatBuffer) {
+			FloatBuffer b = (FloatBuffer) value;
+			if (stride == 1) {
+				return ((FloatBuffer) b.duplicate().position(p).limit(p + length)).slice();
+			}
+			float[] s = new float[length];
+			for (int i = 0, j = p; i < length; i++, j += stride) {
+				s[i] = b.get(j);
+			}
+			return FloatBuffer.wrap(s).asReadOnlyBuffer();
+		} else if (value instanceof IntBuffer) {
+			IntBuffer b = (IntBuffer) value;
+			if (stride == 1) {
+				return ((IntBuffer) b.duplicate().position(p).limit(p + length)).slice();
+			}
+			int[] s = new int[length];
+			for (int i = 0, j = p; i < length; i++, j += stride) {
+				s[i] = b.get(j);
+			}
+			return IntBuffer.wrap(s).asReadOnlyBuffer();
+		} else if (value instanceof ShortBuffer) {
+			ShortBuffer b = (ShortBuffer) value;
+			if (stride == 1) {
+				return ((ShortBuffer) b.duplicate().position(p).limit(p + length)).slice();
+			}
+			short[] s = new short[length];
+			for (int i = 0, j = p; i < length; i++, j += stride) {
+				s[i] = b.get(j);
+			}
+			return ShortBuffer.wrap(s).asReadOnlyBuffer();
+		} else if (value instanceof ByteBuffer) {
+			ByteBuffer b = (ByteBuffer) value;
+			if (stride == 1) {
+				return ((ByteBuffer) b.duplicate().position(p).limit(p + length)).slice();
+			}
+			byte[] s = new byte[length];
+			for (int i = 0, j = p; i < length; i++, j += stride) {
+				s[i] = b.get(j);
+			}
+			return ByteBuffer.wrap(s).asReadOnlyBuffer();
+		}
+		throw new IllegalArgumentException("Slices are not supported for " + value.getClass().getName());
+	}
+
+	/**
+	 * Number of elements of the slice that are available in a waveform of the given length
+	 * (the server might send less elements than requested)
+	 */
+	private int length(int available) {
+		if (available <= offset) {
+			return 0;
+		}
+		return Math.min(count, (available - offset + stride - 1) / stride);
+	}
+}
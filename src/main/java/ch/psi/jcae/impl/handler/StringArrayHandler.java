@@ -8,7 +8,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_String;
 import gov.aps.jca.event.PutListener;
 
-public class StringArrayHandler implements Handler<String[]> {
+public final class StringArrayHandler implements Handler<String[]> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -22,7 +22,7 @@ public class StringArrayHandler implements Handler<String[]> {
 
 	@Override
 	public String[] getValue(DBR dbr) throws CAStatusException {
-		return ((DBR_String) dbr.convert(this.getDBRType())).getStringValue();
+		return ((DBR_String) Handlers.convert(dbr, this.getDBRType())).getStringValue();
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_String;
 import gov.aps.jca.event.PutListener;
 
-public class StringArrayTimestampHandler implements Handler<StringArrayTimestamp> {
+public final class StringArrayTimestampHandler implements BufferedHandler<StringArrayTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class StringArrayTimestampHandler implements Handler<StringArrayTimestamp
 
 	@Override
 	public StringArrayTimestamp getValue(DBR dbr) throws CAStatusException {
-		StringArrayTimestamp t = new StringArrayTimestamp();
-		DBR_TIME_String v = ((DBR_TIME_String) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public StringArrayTimestamp getValue(DBR dbr, StringArrayTimestamp buffer) throws CAStatusException {
+		StringArrayTimestamp t = (buffer != null) ? buffer : new StringArrayTimestamp();
+		DBR_TIME_String v = ((DBR_TIME_String) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getStringValue());
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
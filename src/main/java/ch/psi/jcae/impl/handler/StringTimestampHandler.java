@@ -9,7 +9,7 @@ import gov.aps.jca.dbr.DBRType;
 import gov.aps.jca.dbr.DBR_TIME_String;
 import gov.aps.jca.event.PutListener;
 
-public class StringTimestampHandler implements Handler<StringTimestamp> {
+public final class StringTimestampHandler implements BufferedHandler<StringTimestamp> {
 
 	@Override
 	public <E> void setValue(Channel channel, E value) throws CAException {
@@ -23,11 +23,15 @@ public class StringTimestampHandler implements Handler<StringTimestamp> {
 
 	@Override
 	public StringTimestamp getValue(DBR dbr) throws CAStatusException {
-		StringTimestamp t = new StringTimestamp();
-		DBR_TIME_String v = ((DBR_TIME_String) dbr.convert(this.getDBRType()));
+		return getValue(dbr, null);
+	}
+
+	@Override
+	public StringTimestamp getValue(DBR dbr, StringTimestamp buffer) throws CAStatusException {
+		StringTimestamp t = (buffer != null) ? buffer : new StringTimestamp();
+		DBR_TIME_String v = ((DBR_TIME_String) Handlers.convert(dbr, this.getDBRType()));
 		t.setValue(v.getStringValue()[0]);
-		t.setTime(v.getTimeStamp());
-                t.setSeverity(v.getSeverity().getValue());
+		t.setMetadata(v);
 		return t;
 	}
 
@@ -0,0 +1,71 @@
+package ch.psi.jcae.impl.type;
+
+/**
+ * Value of an enum channel. The value is the index transferred by the server, the labels are
+ * the label table of the channel that is fetched once per connection and shared by all values,
+ * i.e. no string is created while decoding.
+ */
+public class EnumValue extends TimestampValue<Short> {
+
+	private String[] labels;
+
+	/**
+	 * @return Index of the enum state (-1 if not set)
+	 */
+	public short getIndex() {
+		Short v = getValue();
+		return v != null ? v : -1;
+	}
+
+	/**
+	 * @param index
+	 *            Index of the enum state
+	 */
+	public void setIndex(short index) {
+		setValue(index);
+	}
+
+	/**
+	 * @return Label table of the channel (shared - must not be modified, null if not known)
+	 */
+	public String[] getLabels() {
+		return labels;
+	}
+
+	/**
+	 * @param labels
+	 *            Label table of the channel
+	 */
+	public void setLabels(String[] labels) {
+		this.labels = labels;
+	}
+
+	/**
+	 * @return Label of the enum state (null if the index is not covered by the label table)
+	 */
+	public String getLabel() {
+		short index = getIndex();
+		if (labels == null || index < 0 || index >= labels.length) {
+			return null;
+		}
+		return labels[index];
+	}
+
+	/**
+	 * Set the index of the enum state by its label
+	 * 
+	 * @param label
+	 *            Label of the enum state
+	 */
+	public void setLabel(String label) {
+		if (labels != null) {
+			for (int i = 0; i < labels.length; i++) {
+				if (labels[i].equals(label)) {
+					setIndex((short) i);
+					return;
+				}
+			}
+		}
+		throw new IllegalArgumentException("Label " + label + " not defined");
+	}
+}
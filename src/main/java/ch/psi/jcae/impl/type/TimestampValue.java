@@ -1,17 +1,23 @@
 package ch.psi.jcae.impl.type;
 
+import gov.aps.jca.dbr.TIME;
 import gov.aps.jca.dbr.TimeStamp;
 
 import java.util.Date;
 
 import ch.psi.jcae.cas.TimeHelper;
 
+/**
+ * Value with timestamp and alarm state. The timestamp is kept as a single long (nanoseconds
+ * since 1970), severity and status as primitives, so that instances can be reused (see buffer
+ * recycling of monitored channels) without any further allocation.
+ */
 public class TimestampValue<T> {
 
         private T value;
-	private long timestamp;
-	private long nanosecondOffset;
+	private long epochNanos;
         private int severity;
+        private int status;
         
 	public T getValue() {
 		return value;
@@ -27,6 +33,13 @@ public class TimestampValue<T> {
             this.severity = value;
         }      
         
+	public int getStatus() {
+            return status;
+	}
+	public void setStatus(int value) {
+            this.status = value;
+        }      
+        
 	/**
 	 * Converts the TimeStamp into java date and time
 	 * 
@@ -34,15 +47,27 @@ public class TimestampValue<T> {
 	 *            The timestamp
 	 */
 	public void setTime(TimeStamp timestamp) {
-		this.setTimestampPrimitive(TimeHelper.getTimeMillis(timestamp));
-		this.setNanosecondOffset(TimeHelper.getTimeNanoOffset(timestamp));
+		this.epochNanos = TimeHelper.getEpochNanos(timestamp);
 	}
 
 	/**
-	 * @return the timestamp
+	 * Set timestamp, severity and status from a DBR
+	 * 
+	 * @param dbr
+	 *            DBR holding time and alarm state
+	 */
+	public void setMetadata(TIME dbr) {
+		setTime(dbr.getTimeStamp());
+		this.severity = dbr.getSeverity().getValue();
+		this.status = dbr.getStatus().getValue();
+	}
+
+	/**
+	 * @return the timestamp (new Date object - use <code>getTimestampPrimitive()</code>
+	 *         or <code>getEpochNanos()</code> to avoid the allocation)
 	 */
 	public Date getTimestamp() {
-		return new Date(timestamp);
+		return new Date(getTimestampPrimitive());
 	}
 
 	/**
@@ -50,29 +75,29 @@ public class TimestampValue<T> {
 	 *            the timestamp to set
 	 */
 	public void setTimestamp(Date timestamp) {
-		this.timestamp = timestamp.getTime();
+		setTimestampPrimitive(timestamp.getTime());
 	}
 
 	/**
-	 * @return the timestamp
+	 * @return the timestamp (milliseconds since 1970)
 	 */
 	public long getTimestampPrimitive() {
-		return timestamp;
+		return epochNanos / 1000000L;
 	}
 
 	/**
 	 * @param timestamp
-	 *            the timestamp to set
+	 *            the timestamp to set (milliseconds since 1970)
 	 */
 	public void setTimestampPrimitive(long timestamp) {
-		this.timestamp = timestamp;
+		this.epochNanos = timestamp * 1000000L + getNanosecondOffset();
 	}
 
 	/**
 	 * @return the nanosecondOffset
 	 */
 	public long getNanosecondOffset() {
-		return nanosecondOffset;
+		return epochNanos % 1000000L;
 	}
 
 	/**
@@ -80,7 +105,22 @@ public class TimestampValue<T> {
 	 *            the nanosecondOffset to set
 	 */
 	public void setNanosecondOffset(long nanosecondOffset) {
-		this.nanosecondOffset = nanosecondOffset;
+		this.epochNanos = getTimestampPrimitive() * 1000000L + nanosecondOffset;
+	}
+
+	/**
+	 * @return the timestamp in nanoseconds since 1970
+	 */
+	public long getEpochNanos() {
+		return epochNanos;
+	}
+
+	/**
+	 * @param epochNanos
+	 *            the timestamp to set (nanoseconds since 1970)
+	 */
+	public void setEpochNanos(long epochNanos) {
+		this.epochNanos = epochNanos;
 	}
                         
 }
@@ -2,15 +2,27 @@ package ch.psi.jcae;
 
 import static org.junit.Assert.*;
 
+import java.beans.PropertyChangeEvent;
+import java.lang.management.ManagementFactory;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import gov.aps.jca.CAException;
 
+import javax.management.ObjectName;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -19,7 +31,11 @@ import org.junit.Test;
 
 import ch.psi.jcae.annotation.CaChannel;
 import ch.psi.jcae.annotation.CaCompositeChannel;
+import ch.psi.jcae.impl.ChannelMetrics;
+import ch.psi.jcae.impl.DefaultChannel;
 import ch.psi.jcae.impl.DefaultChannelService;
+import ch.psi.jcae.impl.JcaeProperties;
+import ch.psi.jcae.impl.ServiceMetrics;
 
 public class ChannelServiceTest {
 	
@@ -251,6 +267,410 @@ public class ChannelServiceTest {
 	}
 	
 	
+	/**
+	 * Test reading the values of a group of channels at once
+	 */
+	@Test
+	public void testGetValues() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		List<Channel<?>> channels = new ArrayList<Channel<?>>();
+		String[] names = new String[]{TestChannels.STRING_OUT1, TestChannels.STRING_OUT2, TestChannels.STRING_OUT3};
+		for(int i=0;i<names.length;i++){
+			Channel<String> c = factory.createChannel(new ChannelDescriptor<String>(String.class, names[i], i==0));
+			c.setValue("group"+i);
+			channels.add(c);
+		}
+		
+		List<Object> values = factory.getValues(channels, true);
+		assertEquals(names.length, values.size());
+		for(int i=0;i<names.length;i++){
+			assertEquals("group"+i, values.get(i));
+		}
+		
+		for(Channel<?> c: channels){
+			c.destroy();
+		}
+	}
+	
+	/**
+	 * Test callbacks, transformation and cancellation of the future of a group get
+	 */
+	@Test
+	public void testGetValuesAsync() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		List<Channel<?>> channels = new ArrayList<Channel<?>>();
+		String[] names = new String[]{TestChannels.STRING_OUT1, TestChannels.STRING_OUT2, TestChannels.STRING_OUT3};
+		for(int i=0;i<names.length;i++){
+			Channel<String> c = factory.createChannel(new ChannelDescriptor<String>(String.class, names[i]));
+			c.setValue("async"+i);
+			channels.add(c);
+		}
+		
+		final CountDownLatch latch = new CountDownLatch(1);
+		final List<Object> received = new CopyOnWriteArrayList<Object>();
+		ChannelFuture<List<Object>> future = factory.getValuesAsync(channels);
+		future.addCallback(new ChannelFuture.Callback<List<Object>>() {
+			@Override
+			public void completed(List<Object> value) {
+				received.addAll(value);
+				latch.countDown();
+			}
+			
+			@Override
+			public void failed(Throwable cause) {
+				latch.countDown();
+			}
+		});
+		ChannelFuture<Integer> size = future.transform(new ChannelFuture.Function<List<Object>, Integer>() {
+			@Override
+			public Integer apply(List<Object> value) {
+				return value.size();
+			}
+		});
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		assertEquals(Arrays.<Object>asList("async0", "async1", "async2"), received);
+		assertEquals(names.length, (int) size.get(2, TimeUnit.SECONDS));
+		
+		// Cancelling the group cancels the gets of the channels
+		future = factory.getValuesAsync(channels, true);
+		if(future.cancel(true)){
+			assertTrue(future.isCancelled());
+			assertTrue(future.isDone());
+		}
+		
+		for(Channel<?> c: channels){
+			c.destroy();
+		}
+	}
+	
+	/**
+	 * Test setting the values of a group of channels at once
+	 */
+	@Test
+	public void testSetValues() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Map<Channel<?>, Object> values = new LinkedHashMap<Channel<?>, Object>();
+		String[] names = new String[]{TestChannels.STRING_OUT1, TestChannels.STRING_OUT2, TestChannels.STRING_OUT3};
+		for(int i=0;i<names.length;i++){
+			values.put(factory.createChannel(new ChannelDescriptor<String>(String.class, names[i])), "set"+i);
+		}
+		
+		factory.setValues(values);
+		for(Map.Entry<Channel<?>, Object> e: values.entrySet()){
+			assertEquals(e.getValue(), e.getKey().getValue());
+		}
+		
+		for(Map.Entry<Channel<?>, Object> e: values.entrySet()){
+			e.setValue(e.getValue()+"-nowait");
+		}
+		factory.setValuesNoWait(values);
+		Thread.sleep(100);
+		for(Map.Entry<Channel<?>, Object> e: values.entrySet()){
+			assertEquals(e.getValue(), e.getKey().getValue());
+		}
+		
+		for(Channel<?> c: values.keySet()){
+			c.destroy();
+		}
+	}
+	
+	/**
+	 * Test channels with the same name sharing the underlying channel. Destroying one of
+	 * the channels must not affect the others.
+	 */
+	@Test
+	public void testSharedChannel() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<String> c1 = factory.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT1));
+		Channel<String> c2 = factory.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT1, true));
+		List<Channel<?>> l = factory.createChannels(Arrays.asList(new Descriptor<?>[]{new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT1)}));
+		Channel<?> c3 = l.get(0);
+		
+		c1.setValue("shared");
+		assertEquals("shared", c2.getValue(true));
+		
+		c1.destroy();
+		c1.destroy(); // Multiple destroys must only release one reference
+		assertEquals("shared", c2.getValue(true));
+		assertEquals("shared", c3.getValue(true));
+		
+		c2.destroy();
+		assertEquals("shared", c3.getValue(true));
+		c3.destroy();
+		
+		// Channel need to be recreated after the last reference was released
+		Channel<String> c4 = factory.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT1));
+		assertEquals("shared", c4.getValue(true));
+		c4.destroy();
+	}
+	
+	/**
+	 * Test monitored channels with the same name and type sharing one monitor
+	 */
+	@Test
+	public void testSharedMonitor() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<String> c1 = factory.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT2, true));
+		Channel<String> c2 = factory.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT2, true));
+		
+		final List<Object> values1 = new CopyOnWriteArrayList<Object>();
+		final List<Object> values2 = new CopyOnWriteArrayList<Object>();
+		c1.addPropertyChangeListener(new PropertyChangeListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent evt) {
+				values1.add(evt.getNewValue());
+			}
+		});
+		c2.addPropertyChangeListener(new PropertyChangeListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent evt) {
+				values2.add(evt.getNewValue());
+			}
+		});
+		
+		c1.setValue("monitor1");
+		Thread.sleep(200);
+		assertTrue(values1.contains("monitor1"));
+		assertTrue(values2.contains("monitor1"));
+		
+		// Remaining channel need to be still served after the other one is destroyed
+		c1.destroy();
+		c2.setValue("monitor2");
+		Thread.sleep(200);
+		assertTrue(values2.contains("monitor2"));
+		assertEquals("monitor2", c2.getValue());
+		
+		c2.destroy();
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMultipleContexts() throws Exception {
+		JcaeProperties.getInstance().setContexts(3);
+		DefaultChannelService service;
+		try{
+			service = new DefaultChannelService();
+		}
+		finally{
+			JcaeProperties.getInstance().setContexts(1);
+		}
+		
+		try{
+			String[] names = new String[]{TestChannels.STRING_OUT1, TestChannels.STRING_OUT2, TestChannels.STRING_OUT3, TestChannels.ANALOG_OUT, TestChannels.BINARY_OUT};
+			List<Descriptor<?>> descriptors = new ArrayList<Descriptor<?>>();
+			for(String name: names){
+				descriptors.add(new ChannelDescriptor<String>(String.class, name, true));
+			}
+			List<Channel<?>> channels = service.createChannels(descriptors);
+			assertEquals(names.length, channels.size());
+			
+			// Group operations span all contexts
+			Map<Channel<?>, Object> values = new LinkedHashMap<Channel<?>, Object>();
+			for(int i=0;i<3;i++){
+				values.put(channels.get(i), "context"+i);
+			}
+			service.setValues(values);
+			List<Object> read = service.getValues(channels.subList(0, 3), true);
+			for(int i=0;i<3;i++){
+				assertEquals("context"+i, read.get(i));
+				assertEquals("context"+i, ((Channel<String>) channels.get(i)).waitForValue("context"+i, 1000));
+			}
+			
+			// Blocking calls from monitor callbacks must be rejected on the dispatch threads of all contexts
+			final List<Object> rejected = new CopyOnWriteArrayList<Object>();
+			for(int i=0;i<3;i++){
+				final Channel<?> c = channels.get(i);
+				c.addPropertyChangeListener(new PropertyChangeListener() {
+					@Override
+					public void propertyChange(PropertyChangeEvent evt) {
+						if(Channel.PROPERTY_VALUE.equals(evt.getPropertyName())){
+							try{
+								c.getValue(true);
+							}
+							catch(RuntimeException e){
+								rejected.add(c.getName());
+							}
+							catch(Exception e){
+								// not expected
+							}
+						}
+					}
+				});
+			}
+			values.clear();
+			for(int i=0;i<3;i++){
+				values.put(channels.get(i), "callback"+i);
+			}
+			service.setValuesNoWait(values);
+			Thread.sleep(500);
+			assertTrue(rejected.containsAll(Arrays.asList(names[0], names[1], names[2])));
+			
+			for(Channel<?> c: channels){
+				c.destroy();
+			}
+		}
+		finally{
+			service.destroy();
+		}
+	}
+	
+	/**
+	 * Test that the reference to a shared CA channel is released if the creation of a channel fails
+	 */
+	@Test
+	public void testCreateChannelFailureReleases() throws Exception {
+		JcaeProperties.getInstance().setMetrics(true);
+		DefaultChannelService service;
+		try{
+			service = new DefaultChannelService();
+		}
+		finally{
+			JcaeProperties.getInstance().setMetrics(false);
+		}
+		
+		try{
+			ServiceMetrics metrics = service.getMetrics();
+			
+			// Slices are not supported for scalars - configuring the channel fails
+			ChannelDescriptor<String> descriptor = new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT3);
+			descriptor.setStride(2);
+			try{
+				service.createChannel(descriptor);
+				fail("Slice of a scalar must not be accepted");
+			}
+			catch(IllegalArgumentException e){
+				// expected
+			}
+			assertEquals(0, metrics.getChannelCount());
+			
+			List<Descriptor<?>> descriptors = new ArrayList<Descriptor<?>>();
+			descriptors.add(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT1));
+			descriptors.add(descriptor);
+			try{
+				service.createChannels(descriptors);
+				fail("Slice of a scalar must not be accepted");
+			}
+			catch(IllegalArgumentException e){
+				// expected
+			}
+			assertEquals(0, metrics.getChannelCount());
+		}
+		finally{
+			service.destroy();
+		}
+	}
+	
+	@Test
+	public void testMetrics() throws Exception {
+		assertNull(((DefaultChannelService) factory).getMetrics());
+		
+		JcaeProperties.getInstance().setMetrics(true);
+		DefaultChannelService service;
+		try{
+			service = new DefaultChannelService();
+		}
+		finally{
+			JcaeProperties.getInstance().setMetrics(false);
+		}
+		
+		try{
+			ServiceMetrics metrics = service.getMetrics();
+			assertNotNull(metrics);
+			
+			Channel<String> c1 = service.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT2, true));
+			Channel<String> c2 = service.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT2, false));
+			
+			// Channels with the same name share the metrics
+			ChannelMetrics m = ((DefaultChannel<String>) c1).getMetrics();
+			assertNotNull(m);
+			assertSame(m, ((DefaultChannel<String>) c2).getMetrics());
+			assertSame(m, metrics.getChannel(TestChannels.STRING_OUT2));
+			assertEquals(1, m.getConnectCount());
+			
+			for(int i=0;i<10;i++){
+				c2.setValue("metrics"+i);
+				c2.getValue();
+			}
+			c1.waitForValue("metrics9", 1000);
+			
+			assertEquals(10, m.getPutCount());
+			// Initial value of the monitored channel + gets
+			assertEquals(11, m.getGetCount());
+			assertTrue(m.getMonitorEvents() > 0);
+			assertTrue(m.getDecodeCount() >= m.getGetCount() + m.getMonitorEvents());
+			assertTrue(m.getGetLatency().getPercentile(50) > 0);
+			assertEquals(m.getPutCount(), metrics.getPutCount());
+			assertTrue(metrics.getDecodeTime(String.class).getCount() > 0);
+			logger.info(m.toString());
+			
+			ObjectName name = new ObjectName("ch.psi.jcae:type=Channel,service=*,name="+ObjectName.quote(TestChannels.STRING_OUT2));
+			assertEquals(1, ManagementFactory.getPlatformMBeanServer().queryNames(name, null).size());
+			
+			c1.destroy();
+			c2.destroy();
+			assertNull(metrics.getChannel(TestChannels.STRING_OUT2));
+			assertEquals(0, ManagementFactory.getPlatformMBeanServer().queryNames(name, null).size());
+		}
+		finally{
+			service.destroy();
+		}
+	}
+	
+	@Test
+	public void testDispatcherThreads() throws Exception {
+		JcaeProperties.getInstance().setDispatcherThreads(4);
+		DefaultChannelService service;
+		try{
+			service = new DefaultChannelService();
+		}
+		finally{
+			JcaeProperties.getInstance().setDispatcherThreads(0);
+		}
+		
+		try{
+			final Channel<Double> c = service.createChannel(new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT, true));
+			Channel<Double> setter = service.createChannel(new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT, false));
+			
+			final List<Object> values = new CopyOnWriteArrayList<Object>();
+			final List<String> threads = new CopyOnWriteArrayList<String>();
+			final List<Exception> errors = new CopyOnWriteArrayList<Exception>();
+			c.addPropertyChangeListener(Channel.PROPERTY_VALUE, new PropertyChangeListener() {
+				@Override
+				public void propertyChange(PropertyChangeEvent evt) {
+					values.add(evt.getNewValue());
+					threads.add(Thread.currentThread().getName());
+					try{
+						// Blocking calls are not allowed on a dispatcher worker
+						c.getValue(true);
+					}
+					catch(Exception e){
+						errors.add(e);
+					}
+				}
+			});
+			
+			for(int i=0;i<20;i++){
+				setter.setValueNoWait((double) i);
+			}
+			setter.setValue(20.0);
+			c.waitForValue(20.0, 2000);
+			Thread.sleep(100);
+			
+			// Updates of a channel are delivered in order (the first update is the value at the time the monitor was attached)
+			List<Double> expected = new ArrayList<Double>();
+			for(Object v: values.subList(1, values.size())){
+				expected.add((Double) v);
+			}
+			List<Double> sorted = new ArrayList<Double>(expected);
+			Collections.sort(sorted);
+			assertEquals(sorted, expected);
+			assertEquals(20.0, expected.get(expected.size()-1), 0.0);
+			
+			for(String t: threads){
+				assertTrue(t.startsWith("jcae-dispatcher-"));
+			}
+			assertEquals(values.size(), errors.size());
+		}
+		finally{
+			service.destroy();
+		}
+	}
+	
 	/**
 	 * Test class containing ChannelBean attributes with annotations. 
 	 */
@@ -4,14 +4,22 @@ import static org.junit.Assert.*;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import gov.aps.jca.CAException;
+import gov.aps.jca.dbr.DBR_Double;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -20,7 +28,10 @@ import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import ch.psi.jcae.impl.DefaultChannel;
 import ch.psi.jcae.impl.DefaultChannelService;
+import ch.psi.jcae.impl.handler.Handler;
+import ch.psi.jcae.impl.handler.Handlers;
 import ch.psi.jcae.impl.type.ByteArrayString;
 import ch.psi.jcae.impl.type.DoubleArrayTimestamp;
 import ch.psi.jcae.impl.type.DoubleTimestamp;
@@ -185,6 +196,9 @@ public class ChannelTest {
 		Channel<DoubleTimestamp> bean = cservice.createChannel(new ChannelDescriptor<DoubleTimestamp>(DoubleTimestamp.class, TestChannels.BINARY_IN, true));
 		DoubleTimestamp v = bean.getValue();
 		System.out.printf("%f %s offset: %d\n",v.getValue(), v.getTimestamp(), v.getNanosecondOffset());
+		assertTrue(v.getEpochNanos() > 0);
+		assertEquals(v.getEpochNanos(), v.getTimestampPrimitive() * 1000000L + v.getNanosecondOffset());
+		assertEquals(v.getTimestampPrimitive(), v.getTimestamp().getTime());
 		bean.addPropertyChangeListener(new PropertyChangeListener() {
 			
 			@Override
@@ -466,6 +480,29 @@ public class ChannelTest {
 	}
 	
 	
+	/**
+	 * Test multiple waits sharing the monitor of a monitored channel
+	 */
+	@Test
+	public void testWaitForValueShared() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<Integer> beand = cservice.createChannel(new ChannelDescriptor<Integer>(Integer.class, TestChannels.BINARY_IN, true));
+		beand.setValue(1);
+		
+		// Value is already reached - need to return immediately
+		assertEquals(1, (int) beand.waitForValueAsync(1).get(100L, TimeUnit.MILLISECONDS));
+		
+		Future<Integer> f1 = beand.waitForValueAsync(0);
+		Future<Integer> f2 = beand.waitForValueAsync(0);
+		assertFalse(f1.isDone());
+		assertFalse(f2.isDone());
+		
+		beand.setValue(0);
+		assertEquals(0, (int) f1.get(2000L, TimeUnit.MILLISECONDS));
+		assertEquals(0, (int) f2.get(2000L, TimeUnit.MILLISECONDS));
+		
+		beand.destroy();
+	}
+	
 	@Test
 	public void testWaitForValueRetry() throws CAException, InterruptedException, TimeoutException, ChannelException, ExecutionException {
 		final Integer testvalue = 0;
@@ -498,6 +535,230 @@ public class ChannelTest {
 		// TODO Test if channel is already on the given value (measure time)
 	}
 	
+	/**
+	 * Test callbacks, composition and cancellation of asynchronous operations
+	 */
+	@Test
+	public void testChannelFuture() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		final Channel<Integer> beand = cservice.createChannel(new ChannelDescriptor<Integer>(Integer.class, TestChannels.BINARY_IN));
+		beand.setValue(1);
+		
+		// Callback is called on completion
+		final CountDownLatch latch = new CountDownLatch(1);
+		final List<Integer> values = new ArrayList<Integer>();
+		beand.getValueAsync(true).addCallback(new ChannelFuture.Callback<Integer>() {
+			@Override
+			public void completed(Integer value) {
+				values.add(value);
+				latch.countDown();
+			}
+			
+			@Override
+			public void failed(Throwable cause) {
+				latch.countDown();
+			}
+		});
+		assertTrue(latch.await(2000L, TimeUnit.MILLISECONDS));
+		assertEquals(Arrays.asList(1), values);
+		
+		// Set a value and read it back
+		ChannelFuture<Integer> f = beand.setValueAsync(0).transformAsync(new ChannelFuture.AsyncFunction<Integer, Integer>() {
+			@Override
+			public ChannelFuture<Integer> apply(Integer value) throws Exception {
+				return beand.getValueAsync(true);
+			}
+		}).transform(new ChannelFuture.Function<Integer, Integer>() {
+			@Override
+			public Integer apply(Integer value) {
+				return value + 10;
+			}
+		});
+		assertEquals(10, (int) f.get(2000L, TimeUnit.MILLISECONDS));
+		
+		// Cancelled wait must complete right away
+		ChannelFuture<Integer> w = beand.waitForValueAsync(1);
+		assertTrue(w.cancel(false));
+		assertTrue(w.isCancelled());
+		assertTrue(w.isDone());
+		try {
+			w.get();
+			fail("Cancelled future must not return a value");
+		} catch (CancellationException e) {
+		}
+		
+		ChannelFuture<Integer> wr = beand.waitForValueAsync(1, 100L);
+		assertTrue(wr.cancel(false));
+		assertTrue(wr.isDone());
+		
+		beand.destroy();
+	}
+	
+	/**
+	 * Test conflation of value notifications (slow listener on a fast changing channel)
+	 */
+	@Test
+	public void testConflation() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		ChannelDescriptor<Double> descriptor = new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT, true);
+		descriptor.setConflation(200L);
+		Channel<Double> channel = cservice.createChannel(descriptor);
+		Channel<Double> setter = cservice.createChannel(new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT));
+		
+		final List<Object> values = new CopyOnWriteArrayList<Object>();
+		channel.addPropertyChangeListener(Channel.PROPERTY_VALUE, new PropertyChangeListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent evt) {
+				values.add(evt.getNewValue());
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		
+		for(int i=0;i<100;i++){
+			setter.setValueNoWait((double) i);
+			Thread.sleep(2);
+		}
+		setter.setValue(100.0);
+		
+		// Waits see every update
+		assertEquals(100.0, channel.waitForValue(100.0, 2000), 0.0);
+		Thread.sleep(600);
+		
+		logger.info("Notifications: "+values.size());
+		assertTrue(values.size() > 0);
+		assertTrue(values.size() < 10);
+		assertEquals(100.0, (Double) values.get(values.size()-1), 0.0);
+		
+		channel.destroy();
+		setter.destroy();
+	}
+	
+	/**
+	 * Test primitive listeners (values decoded on access only)
+	 */
+	@Test
+	public void testDoubleListener() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		DefaultChannel<DoubleTimestamp> channel = (DefaultChannel<DoubleTimestamp>) cservice.createChannel(new ChannelDescriptor<DoubleTimestamp>(DoubleTimestamp.class, TestChannels.ANALOG_OUT));
+		Channel<Double> setter = cservice.createChannel(new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT));
+		
+		final double[] last = new double[1];
+		final long[] timestamp = new long[1];
+		final CountDownLatch latch = new CountDownLatch(1);
+		DoubleListener listener = new DoubleListener() {
+			@Override
+			public void valueChanged(double value, long time, long nanosecondOffset, int severity) {
+				last[0] = value;
+				timestamp[0] = time;
+				if (value == 42.5) {
+					latch.countDown();
+				}
+			}
+		};
+		channel.addDoubleListener(listener);
+		assertTrue(channel.isMonitored());
+		
+		setter.setValue(42.5);
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		assertTrue(timestamp[0] > 0);
+		// Cached value is decoded on access
+		assertEquals(42.5, channel.getValue().getValue(), 0.0);
+		
+		channel.removeDoubleListener(listener);
+		setter.setValue(1.0);
+		Thread.sleep(200);
+		assertEquals(42.5, last[0], 0.0);
+		assertEquals(1.0, channel.getValue().getValue(), 0.0);
+		
+		try {
+			channel.addIntegerListener(new IntegerListener() {
+				@Override
+				public void valueChanged(int value, long time, long nanosecondOffset, int severity) {
+				}
+			});
+			fail("Integer listener must not be accepted for double channel");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		
+		channel.destroy();
+		setter.destroy();
+	}
+	
+	/**
+	 * Test publisher of channel values with a bounded buffer dropping the oldest values
+	 */
+	@Test
+	public void testPublisher() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<String> channel = cservice.createChannel(new ChannelDescriptor<String>(String.class, TestChannels.STRING_OUT3, true));
+		channel.setValue("p0");
+		Thread.sleep(200);
+		
+		final List<String> values = new CopyOnWriteArrayList<String>();
+		final Flow.Subscription[] subscription = new Flow.Subscription[1];
+		channel.getPublisher(Backpressure.DROP_OLDEST, 2).subscribe(new Flow.Subscriber<String>() {
+			@Override
+			public void onSubscribe(Flow.Subscription s) {
+				subscription[0] = s;
+			}
+			@Override
+			public void onNext(String item) {
+				values.add(item);
+			}
+			@Override
+			public void onError(Throwable throwable) {
+			}
+			@Override
+			public void onComplete() {
+			}
+		});
+		
+		// Nothing requested - values are buffered
+		for(String v: new String[]{"p1", "p2", "p3"}){
+			channel.setValue(v);
+			Thread.sleep(100);
+		}
+		assertTrue(values.isEmpty());
+		
+		subscription[0].request(10);
+		Thread.sleep(200);
+		assertEquals(Arrays.asList("p2", "p3"), values);
+		
+		channel.setValue("p4");
+		Thread.sleep(200);
+		assertEquals(Arrays.asList("p2", "p3", "p4"), values);
+		
+		subscription[0].cancel();
+		// The subscription must not stay registered
+		assertEquals(0, ((DefaultChannel<String>) channel).getPropertyChangeListeners().length);
+		channel.setValue("p5");
+		Thread.sleep(200);
+		assertEquals(3, values.size());
+		
+		channel.destroy();
+	}
+	
+	@Test
+	public void testWaitForValueRetryConcurrent() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<Integer> beand = cservice.createChannel(new ChannelDescriptor<Integer>(Integer.class, TestChannels.BINARY_IN));
+		beand.setValue(1);
+		
+		// All waits are served by the scheduler of the service
+		List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+		for(int i=0;i<20;i++){
+			futures.add(beand.waitForValueAsync(0, 200L));
+		}
+		
+		Thread.sleep(500);
+		beand.setValue(0);
+		for(Future<Integer> f: futures){
+			assertEquals(0, (int) f.get(2000L, TimeUnit.MILLISECONDS));
+		}
+		
+		beand.destroy();
+	}
+	
 	
 	
 	/**
@@ -751,6 +1012,300 @@ public class ChannelTest {
 		}
 	}
 	
+	/**
+	 * Test buffer recycling of monitor updates - successive values need to alternate between
+	 * two buffers, i.e. no value object is allocated in steady state
+	 */
+	@Test
+	public void testRecycle() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<double[]> waveformSetter = cservice.createChannel(new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM));
+		Channel<Double> setter = cservice.createChannel(new ChannelDescriptor<Double>(Double.class, TestChannels.ANALOG_OUT));
+
+		// Timestamp waveform
+		ChannelDescriptor<DoubleArrayTimestamp> d1 = new ChannelDescriptor<DoubleArrayTimestamp>(DoubleArrayTimestamp.class, TestChannels.DOUBLE_WAVEFORM, true);
+		d1.setRecycle(true);
+		Channel<DoubleArrayTimestamp> waveform = cservice.createChannel(d1);
+		List<Object> waveformValues = recordValues(waveform);
+
+		// boolean[] (converted from the double waveform)
+		ChannelDescriptor<boolean[]> d2 = new ChannelDescriptor<boolean[]>(boolean[].class, TestChannels.DOUBLE_WAVEFORM, true);
+		d2.setRecycle(true);
+		Channel<boolean[]> booleans = cservice.createChannel(d2);
+		List<Object> booleanValues = recordValues(booleans);
+
+		for(int i=0;i<6;i++){
+			waveformSetter.setValue(new double[]{i%2, i});
+			Thread.sleep(100);
+		}
+		assertAlternating(waveformValues);
+		assertAlternating(booleanValues);
+		assertEquals(5.0, waveform.getValue().getValue()[1], 0.0);
+		assertTrue(booleans.getValue()[0]);
+
+		// Timestamp scalar
+		ChannelDescriptor<DoubleTimestamp> d3 = new ChannelDescriptor<DoubleTimestamp>(DoubleTimestamp.class, TestChannels.ANALOG_OUT, true);
+		d3.setRecycle(true);
+		Channel<DoubleTimestamp> scalar = cservice.createChannel(d3);
+		List<Object> scalarValues = recordValues(scalar);
+
+		for(int i=0;i<6;i++){
+			setter.setValue(10.0 + i);
+			Thread.sleep(100);
+		}
+		assertAlternating(scalarValues);
+		assertEquals(15.0, scalar.getValue().getValue(), 0.0);
+
+		waveform.destroy();
+		booleans.destroy();
+		scalar.destroy();
+		waveformSetter.destroy();
+		setter.destroy();
+	}
+
+	/**
+	 * Record the values the channel notifies (the instances, not copies)
+	 */
+	private List<Object> recordValues(Channel<?> channel) {
+		final List<Object> values = new CopyOnWriteArrayList<Object>();
+		channel.addPropertyChangeListener(new PropertyChangeListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent evt) {
+				if(evt.getPropertyName().equals("value")){
+					values.add(evt.getNewValue());
+				}
+			}
+		});
+		return values;
+	}
+
+	/**
+	 * Check that the values alternate between two instances
+	 */
+	private void assertAlternating(List<Object> values) {
+		assertEquals(6, values.size());
+		for(int i=2;i<values.size();i++){
+			assertSame(values.get(i-2), values.get(i));
+			assertNotSame(values.get(i-1), values.get(i));
+		}
+	}
+
+	/**
+	 * Test waveform access via NIO buffer views
+	 */
+	@Test
+	public void testBufferView() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<DoubleBuffer> bean = cservice.createChannel(new ChannelDescriptor<DoubleBuffer>(DoubleBuffer.class, TestChannels.DOUBLE_WAVEFORM));
+		assertEquals(10, (int) bean.getSize());
+		
+		DoubleBuffer b = DoubleBuffer.allocate(10);
+		for(int i=0;i<10;i++){
+			b.put(i * 1.5);
+		}
+		b.flip();
+		bean.setValue(b);
+		
+		DoubleBuffer v = bean.getValue();
+		assertTrue(v.isReadOnly());
+		assertEquals(10, v.remaining());
+		assertEquals(4.5, v.get(3), 0.0);
+		
+		// Set a slice of a buffer
+		b.position(2);
+		bean.setValue(b.slice());
+		v = bean.getValue();
+		assertEquals(3.0, v.get(0), 0.0);
+		
+		bean.destroy();
+	}
+	
+	/**
+	 * Test reading a region of a waveform (offset, size and stride)
+	 */
+	@Test
+	public void testSlice() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<double[]> setter = cservice.createChannel(new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM));
+		setter.setValue(new double[]{0,1,2,3,4,5,6,7,8,9});
+		
+		ChannelDescriptor<double[]> descriptor = new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM, true);
+		descriptor.setOffset(2);
+		descriptor.setSize(3);
+		descriptor.setStride(2);
+		Channel<double[]> bean = cservice.createChannel(descriptor);
+		assertEquals(3, (int) bean.getSize());
+		assertArrayEquals(new double[]{2,4,6}, bean.getValue(), 0.0);
+		assertArrayEquals(new double[]{2,4,6}, bean.getValue(true), 0.0);
+		
+		setter.setValue(new double[]{10,11,12,13,14,15,16,17,18,19});
+		assertArrayEquals(new double[]{12,14,16}, bean.waitForValue(new double[]{12,14,16}, 2000, new Comparator<double[]>() {
+			@Override
+			public int compare(double[] o1, double[] o2) {
+				return Arrays.equals(o1, o2) ? 0 : 1;
+			}
+		}), 0.0);
+		
+		// Without size the region extends to the end of the waveform
+		descriptor = new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM);
+		descriptor.setOffset(7);
+		Channel<double[]> tail = cservice.createChannel(descriptor);
+		assertArrayEquals(new double[]{17,18,19}, tail.getValue(), 0.0);
+		
+		// Strings held by char waveforms cannot be sliced - rejected when configuring the channel
+		ChannelDescriptor<ByteArrayString> sdescriptor = new ChannelDescriptor<ByteArrayString>(ByteArrayString.class, TestChannels.CHARACTER_WAVEFORM);
+		sdescriptor.setOffset(2);
+		try{
+			cservice.createChannel(sdescriptor);
+			fail("Slice of a ByteArrayString must not be accepted");
+		}
+		catch(IllegalArgumentException e){
+			// expected
+		}
+		
+		tail.destroy();
+		bean.destroy();
+		setter.destroy();
+	}
+	
+	/**
+	 * Test dynamic size mode (server decides on the number of elements)
+	 */
+	@Test
+	public void testDynamicSize() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<double[]> setter = cservice.createChannel(new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM));
+		
+		ChannelDescriptor<double[]> descriptor = new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM, true);
+		descriptor.setDynamicSize(true);
+		Channel<double[]> bean = cservice.createChannel(descriptor);
+		assertEquals(10, (int) bean.getSize());
+		
+		try {
+			setter.setValue(new double[]{1,2,3,4});
+			double[] v = bean.getValue(true);
+			logger.info("Elements received: "+v.length);
+			assertTrue(v.length >= 4 && v.length <= 10);
+			assertArrayEquals(new double[]{1,2,3,4}, Arrays.copyOf(v, 4), 0.0);
+		} finally {
+			setter.setValue(new double[]{0,0,0,0,0,0,0,0,0,0});
+			bean.destroy();
+			setter.destroy();
+		}
+	}
+	
+	/**
+	 * Test setting a region of a larger array
+	 */
+	@Test
+	public void testSetRegion() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		DefaultChannel<double[]> bean = (DefaultChannel<double[]>) cservice.createChannel(new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM));
+		
+		double[] table = new double[20];
+		for(int i=0;i<table.length;i++){
+			table[i] = i;
+		}
+		bean.setValue(table, 5, 10);
+		assertArrayEquals(new double[]{5,6,7,8,9,10,11,12,13,14}, bean.getValue(), 0.0);
+		
+		try {
+			bean.setValue(table, 15, 10);
+			fail("Region exceeding the array must not be accepted");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		
+		bean.destroy();
+	}
+	
+	/**
+	 * Test custom handlers registered via the ServiceLoader and programmatically
+	 */
+	@Test
+	public void testCustomHandler() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		// Registered by the provider listed in META-INF/services
+		assertTrue(Handlers.isSupported(DoubleStatistics.class));
+		assertEquals(DBR_Double.TYPE, Handlers.getDBRType(DoubleStatistics.class));
+		
+		Channel<double[]> setter = cservice.createChannel(new ChannelDescriptor<double[]>(double[].class, TestChannels.DOUBLE_WAVEFORM));
+		setter.setValue(new double[]{1,2,3,4,5,6,7,8,9,10});
+		
+		Channel<DoubleStatistics> bean = cservice.createChannel(new ChannelDescriptor<DoubleStatistics>(DoubleStatistics.class, TestChannels.DOUBLE_WAVEFORM));
+		assertEquals(10, (int) bean.getSize());
+		DoubleStatistics s = bean.getValue();
+		assertEquals(10, s.getCount());
+		assertEquals(55.0, s.getSum(), 0.0);
+		assertEquals(1.0, s.getMin(), 0.0);
+		assertEquals(10.0, s.getMax(), 0.0);
+		// Custom types do not change the default type of a channel
+		assertEquals(double[].class, bean.getFieldType());
+		bean.destroy();
+		
+		// Programmatic registration
+		Handler<?> handler = Handlers.unregister(DoubleStatistics.class);
+		assertNotNull(handler);
+		try {
+			cservice.createChannel(new ChannelDescriptor<DoubleStatistics>(DoubleStatistics.class, TestChannels.DOUBLE_WAVEFORM));
+			fail("Unregistered type must not be accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		} finally {
+			Handlers.register(DoubleStatistics.class, new DoubleStatistics.DoubleStatisticsHandler());
+		}
+		bean = cservice.createChannel(new ChannelDescriptor<DoubleStatistics>(DoubleStatistics.class, TestChannels.DOUBLE_WAVEFORM));
+		assertEquals(55.0, bean.getValue().getSum(), 0.0);
+		bean.destroy();
+		
+		setter.destroy();
+	}
+	
+	/**
+	 * Test long values (transferred as double)
+	 */
+	@Test
+	public void testLong() throws InterruptedException, TimeoutException, ChannelException, ExecutionException {
+		Channel<Long> bean = cservice.createChannel(new ChannelDescriptor<Long>(Long.class, TestChannels.ANALOG_OUT));
+		long value = (1L << 40) + 3;
+		bean.setValue(value);
+		assertEquals(value, (long) bean.getValue());
+		bean.destroy();
+		
+		Channel<long[]> wave = cservice.createChannel(new ChannelDescriptor<long[]>(long[].class, TestChannels.DOUBLE_WAVEFORM));
+		assertEquals(10, (int) wave.getSize());
+		long[] values = new long[10];
+		for(int i=0;i<values.length;i++){
+			values[i] = (1L << 35) * i;
+		}
+		wave.setValue(values);
+		assertTrue(Arrays.equals(values, wave.getValue()));
+		
+		// Regions (whole array and part of a larger array)
+		DefaultChannel<long[]> dwave = (DefaultChannel<long[]>) wave;
+		dwave.setValue(values, 0, values.length);
+		assertTrue(Arrays.equals(values, wave.getValue()));
+		long[] table = new long[20];
+		for(int i=0;i<table.length;i++){
+			table[i] = -i;
+		}
+		dwave.setValue(table, 5, 10);
+		assertTrue(Arrays.equals(Arrays.copyOfRange(table, 5, 15), wave.getValue()));
+		
+		// Values that are not exactly representable as double are rejected
+		values[3] = (1L << 53) + 1;
+		try {
+			wave.setValue(values);
+			fail("Value exceeding 2^53 must not be accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		bean = cservice.createChannel(new ChannelDescriptor<Long>(Long.class, TestChannels.ANALOG_OUT));
+		try {
+			bean.setValue(Long.MIN_VALUE);
+			fail("Value exceeding -2^53 must not be accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		} finally {
+			bean.destroy();
+		}
+		wave.destroy();
+	}
+	
 	@Test
 	public void testArrayTimestampSize() throws CAException, InterruptedException, TimeoutException, ChannelException, ExecutionException {
 		Channel<DoubleArrayTimestamp> bean1 = cservice.createChannel(new ChannelDescriptor<DoubleArrayTimestamp>(DoubleArrayTimestamp.class, TestChannels.DOUBLE_WAVEFORM, true));
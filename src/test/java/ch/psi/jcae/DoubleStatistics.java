@@ -0,0 +1,94 @@
+package ch.psi.jcae;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.PutListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ch.psi.jcae.impl.handler.BufferedHandler;
+import ch.psi.jcae.impl.handler.Handler;
+import ch.psi.jcae.impl.handler.HandlerProvider;
+import ch.psi.jcae.impl.handler.Handlers;
+import ch.psi.jcae.impl.type.ArrayValueHolder;
+
+/**
+ * Custom type used to test handler registration - statistics of a double waveform that are
+ * calculated straight from the DBR (without an intermediate array)
+ */
+public class DoubleStatistics implements ArrayValueHolder {
+
+	private int count;
+	private double sum;
+	private double min;
+	private double max;
+
+	public int getCount() {
+		return count;
+	}
+
+	public double getSum() {
+		return sum;
+	}
+
+	public double getMin() {
+		return min;
+	}
+
+	public double getMax() {
+		return max;
+	}
+
+	public static final class DoubleStatisticsHandler implements BufferedHandler<DoubleStatistics> {
+
+		@Override
+		public <E> void setValue(Channel channel, E value) throws CAException {
+			throw new UnsupportedOperationException("Statistics cannot be set");
+		}
+
+		@Override
+		public <E> void setValue(Channel channel, E value, PutListener listener) throws CAException {
+			throw new UnsupportedOperationException("Statistics cannot be set");
+		}
+
+		@Override
+		public DoubleStatistics getValue(DBR dbr) throws CAStatusException {
+			return getValue(dbr, null);
+		}
+
+		@Override
+		public DoubleStatistics getValue(DBR dbr, DoubleStatistics buffer) throws CAStatusException {
+			double[] v = ((DBR_Double) Handlers.convert(dbr, getDBRType())).getDoubleValue();
+			DoubleStatistics s = buffer != null ? buffer : new DoubleStatistics();
+			s.count = v.length;
+			s.sum = 0;
+			s.min = Double.POSITIVE_INFINITY;
+			s.max = Double.NEGATIVE_INFINITY;
+			for (double d : v) {
+				s.sum += d;
+				s.min = Math.min(s.min, d);
+				s.max = Math.max(s.max, d);
+			}
+			return s;
+		}
+
+		@Override
+		public DBRType getDBRType() {
+			return DBR_Double.TYPE;
+		}
+	}
+
+	public static final class Provider implements HandlerProvider {
+		@Override
+		public Map<Class<?>, Handler<?>> getHandlers() {
+			Map<Class<?>, Handler<?>> handlers = new HashMap<Class<?>, Handler<?>>();
+			handlers.put(DoubleStatistics.class, new DoubleStatisticsHandler());
+			return handlers;
+		}
+	}
+}
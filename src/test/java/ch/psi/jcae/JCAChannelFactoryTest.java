@@ -3,6 +3,7 @@ package ch.psi.jcae;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -15,7 +16,10 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import ch.psi.jcae.impl.ConnectionProgressListener;
+import ch.psi.jcae.impl.ConnectionResult;
 import ch.psi.jcae.impl.JCAChannelFactory;
+import ch.psi.jcae.impl.JcaeProperties;
 
 /**
  * JUnit test class for testing the <code>ChannelFactory</code> class
@@ -122,6 +126,88 @@ public class JCAChannelFactoryTest {
 		factory.createChannels(channelNames);
 	}
 	
+	/**
+	 * Test connection of multiple channels with one nonexistent channel. It is expected
+	 * that the other channels are connected and the nonexistent channel is reported.
+	 * @throws CAException 
+	 * @throws InterruptedException 
+	 */
+	@Test
+	public void testConnectChannelsPartial() throws CAException, InterruptedException {
+		List<String> channelNames = new ArrayList<String>();
+		channelNames.add(TestChannels.BINARY_OUT);
+		channelNames.add(TestChannels.BINARY_OUT_NOT_EXIST);
+		channelNames.add(TestChannels.CHARACTER_WAVEFORM);
+		
+		final List<Integer> progress = new ArrayList<Integer>();
+		ConnectionResult result = factory.connectChannels(channelNames, new ConnectionProgressListener() {
+			@Override
+			public void connectionProgress(int connected, int total) {
+				progress.add(connected);
+			}
+		});
+		
+		assertFalse(result.isComplete());
+		assertEquals(2, result.getConnected());
+		assertEquals(Arrays.asList(TestChannels.BINARY_OUT_NOT_EXIST), result.getFailed());
+		assertNull(result.getChannels().get(1));
+		assertEquals(2, (int) progress.get(progress.size()-1));
+		
+		for(Channel c: result.getChannels()){
+			if(c!=null){
+				c.destroy();
+			}
+		}
+	}
+	
+	/**
+	 * Test that connection requests are pipelined with one deadline for all requests, i.e.
+	 * unreachable channels do not add up the channel timeout.
+	 * @throws CAException 
+	 * @throws InterruptedException 
+	 */
+	@Test
+	public void testConnectChannelsDeadline() throws CAException, InterruptedException {
+		JcaeProperties properties = JcaeProperties.getInstance();
+		int waveSize = properties.getConnectionWaveSize();
+		int retries = properties.getConnectionRetries();
+		long timeout = properties.getChannelTimeout();
+		properties.setConnectionWaveSize(4);
+		properties.setConnectionRetries(0);
+		properties.setChannelTimeout(1000);
+		try{
+			List<String> channelNames = new ArrayList<String>();
+			channelNames.add(TestChannels.BINARY_OUT);
+			channelNames.add(TestChannels.BINARY_OUT_NOT_EXIST);
+			channelNames.add(TestChannels.CHARACTER_WAVEFORM);
+			channelNames.add(TestChannels.BINARY_OUT_NOT_EXIST+"2");
+			channelNames.add(TestChannels.BINARY_IN);
+			channelNames.add(TestChannels.BINARY_OUT_NOT_EXIST+"3");
+			channelNames.add(TestChannels.ANALOG_OUT);
+			
+			long s = System.currentTimeMillis();
+			ConnectionResult result = factory.connectChannels(channelNames, null);
+			long e = System.currentTimeMillis();
+			logger.info("Connecting channels took "+(e-s)+"ms");
+			
+			// A wave based connect would take a timeout per wave holding an unreachable channel
+			assertTrue(e-s < 2000);
+			assertEquals(4, result.getConnected());
+			assertEquals(Arrays.asList(TestChannels.BINARY_OUT_NOT_EXIST, TestChannels.BINARY_OUT_NOT_EXIST+"2", TestChannels.BINARY_OUT_NOT_EXIST+"3"), result.getFailed());
+			
+			for(Channel c: result.getChannels()){
+				if(c!=null){
+					c.destroy();
+				}
+			}
+		}
+		finally{
+			properties.setConnectionWaveSize(waveSize);
+			properties.setConnectionRetries(retries);
+			properties.setChannelTimeout(timeout);
+		}
+	}
+	
 	/**
 	 * Test createChannels function to behave correctly if null or an empty 
 	 * name list is passed.
@@ -0,0 +1,95 @@
+package ch.psi.jcae.impl.handler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class ConversionsTest {
+
+	/**
+	 * Lengths covering the remainder loop only, exactly one and more unrolled
+	 * iterations, and several iterations with a remainder
+	 */
+	private static final int[] LENGTHS = new int[] { 0, 1, 7, 8, 9, 8 * 5 + 3, 8 * 5 };
+
+	/**
+	 * Test method for
+	 * {@link ch.psi.jcae.impl.handler.Conversions#toBooleans(int[], boolean[], int)}
+	 */
+	@Test
+	public void testToBooleans() {
+		for (int length : LENGTHS) {
+			int[] src = new int[length];
+			for (int i = 0; i < length; i++) {
+				// Negative, zero and positive values
+				src[i] = (i % 3) - 1;
+			}
+			// Larger destination - elements beyond the length must not be touched
+			boolean[] dst = new boolean[length + 2];
+			dst[length] = true;
+			dst[length + 1] = true;
+			Conversions.toBooleans(src, dst, length);
+			for (int i = 0; i < length; i++) {
+				assertEquals("length " + length + " index " + i, src[i] > 0, dst[i]);
+			}
+			assertTrue(dst[length]);
+			assertTrue(dst[length + 1]);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link ch.psi.jcae.impl.handler.Conversions#toInts(boolean[], int, int[], int)}
+	 */
+	@Test
+	public void testToInts() {
+		for (int length : LENGTHS) {
+			for (int offset : new int[] { 0, 3 }) {
+				boolean[] src = new boolean[offset + length];
+				for (int i = 0; i < src.length; i++) {
+					src[i] = (i % 3) == 0;
+				}
+				int[] dst = new int[length + 1];
+				dst[length] = -1;
+				Conversions.toInts(src, offset, dst, length);
+				for (int i = 0; i < length; i++) {
+					assertEquals("length " + length + " offset " + offset + " index " + i, src[offset + i] ? 1 : 0, dst[i]);
+				}
+				assertEquals(-1, dst[length]);
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link ch.psi.jcae.impl.handler.Conversions#indexOfNul(byte[])}
+	 */
+	@Test
+	public void testIndexOfNul() {
+		for (int length : LENGTHS) {
+			byte[] bytes = new byte[length];
+			for (int i = 0; i < length; i++) {
+				bytes[i] = (byte) ('a' + (i % 26));
+			}
+			// No NUL at all
+			assertEquals("length " + length, length, Conversions.indexOfNul(bytes));
+
+			// NUL at each position
+			for (int p = 0; p < length; p++) {
+				byte[] b = bytes.clone();
+				b[p] = 0;
+				assertEquals("length " + length + " position " + p, p, Conversions.indexOfNul(b));
+
+				// The first NUL counts if there are several
+				if (p + 1 < length) {
+					b[length - 1] = 0;
+					assertEquals("length " + length + " position " + p, p, Conversions.indexOfNul(b));
+				}
+			}
+		}
+
+		// Negative (non ASCII) bytes are not terminators
+		byte[] utf8 = new byte[] { (byte) 0xc3, (byte) 0xa4, (byte) 0xc3, (byte) 0xb6, (byte) 0xc3, (byte) 0xbc, (byte) 0xc3, (byte) 0x9f, 0, 'x' };
+		assertEquals(8, Conversions.indexOfNul(utf8));
+	}
+}